@@ -27,6 +27,8 @@ import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.CollectionUtils;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -274,6 +276,22 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
             }
 
             afterTest(context);
+            context.stopTimers();
+            releaseMessageStore(context);
+        }
+    }
+
+    /**
+     * Releases resources held by the test context message store such as spill files.
+     * @param context
+     */
+    private void releaseMessageStore(TestContext context) {
+        if (context.getMessageStore() instanceof Closeable) {
+            try {
+                ((Closeable) context.getMessageStore()).close();
+            } catch (IOException e) {
+                log.warn("Failed to close message store", e);
+            }
         }
     }
 
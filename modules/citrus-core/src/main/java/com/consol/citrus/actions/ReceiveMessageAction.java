@@ -22,6 +22,7 @@ import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageSelectorBuilder;
+import com.consol.citrus.message.ParsedPayloadCache;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
 import com.consol.citrus.validation.DefaultMessageHeaderValidator;
@@ -134,7 +135,12 @@ public class ReceiveMessageAction extends AbstractTestAction {
             }
 
             //validate the message
-            validateMessage(receivedMessage, context);
+            try {
+                validateMessage(receivedMessage, context);
+            } finally {
+                //parsed payload representations are only shared among validators of this action
+                ParsedPayloadCache.clear(receivedMessage);
+            }
         } catch (IOException e) {
             throw new CitrusRuntimeException(e);
         }
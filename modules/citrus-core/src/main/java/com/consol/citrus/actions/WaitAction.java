@@ -17,16 +17,21 @@
 package com.consol.citrus.actions;
 
 import com.consol.citrus.condition.Condition;
+import com.consol.citrus.condition.ObservableCondition;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Pause the test execution until the condition is met or the wait time has been exceeded.
+ * Pause the test execution until the condition is met or the wait time has been exceeded. Condition is checked in
+ * intervals on a scheduler shared by all wait actions. Observable conditions additionally trigger a check as soon as
+ * they may have changed so the action completes without waiting for the next interval.
  *
  * @author Martin Maher
  * @since 2.4
@@ -56,51 +61,39 @@ public class WaitAction extends AbstractTestAction {
 
     @Override
     public void doExecute(final TestContext context) {
-        Boolean conditionSatisfied = null;
-        long timeLeft = getWaitTimeMs(context);
+        long waitTime = getWaitTimeMs(context);
         long intervalMs = getIntervalMs(context);
 
-        if (intervalMs > timeLeft) {
-            intervalMs = timeLeft;
+        if (intervalMs > waitTime) {
+            intervalMs = waitTime;
         }
 
-        Callable<Boolean> callable = new Callable<Boolean>() {
-            @Override
-            public Boolean call() {
-                return condition.isSatisfied(context);
-            }
-        };
-
-        while (timeLeft > 0) {
-            timeLeft -= intervalMs;
+        final ConditionCheck check = new ConditionCheck(condition, context);
 
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Waiting for condition %s", condition.getName()));
-            }
+        // subscribe before first check so changes in between first check and subscription are not missed
+        ObservableCondition.Subscription subscription = null;
+        if (condition instanceof ObservableCondition) {
+            subscription = ((ObservableCondition) condition).subscribe(context, check::request, ThreadUtils.getWorkerExecutor());
+        }
 
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            Future<Boolean> future = executor.submit(callable);
-            long checkStartTime = System.currentTimeMillis();
-            try {
-                conditionSatisfied = future.get(intervalMs, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException | TimeoutException | ExecutionException e) {
-                log.warn(String.format("Condition check interrupted with '%s'", e.getClass().getSimpleName()));
-            }
-            executor.shutdown();
+        ScheduledFuture<?> polling = ThreadUtils.getScheduler().scheduleWithFixedDelay(check::request, 0L, Math.max(intervalMs, 1L), TimeUnit.MILLISECONDS);
 
-            if (Boolean.TRUE.equals(conditionSatisfied)) {
+        try {
+            if (check.result.get(waitTime, TimeUnit.MILLISECONDS)) {
                 log.info(String.format(condition.getSuccessMessage(context)));
                 return;
             }
-
-            long sleepTime = intervalMs - (System.currentTimeMillis() - checkStartTime);
-            if (sleepTime > 0) {
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    log.warn("Interrupted during wait!", e);
-                }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted during wait!", e);
+        } catch (TimeoutException | ExecutionException e) {
+            log.debug(String.format("Condition check finished with '%s'", e.getClass().getSimpleName()));
+        } finally {
+            polling.cancel(false);
+            if (subscription != null) {
+                subscription.cancel();
             }
+            check.result.complete(Boolean.FALSE);
         }
 
         throw new CitrusRuntimeException(condition.getErrorMessage(context));
@@ -159,4 +152,56 @@ public class WaitAction extends AbstractTestAction {
     public void setInterval(String interval) {
         this.interval = interval;
     }
+
+    /**
+     * Condition check triggered by scheduled intervals and condition change notifications. Checks never run
+     * concurrently, requests arriving while a check is running cause exactly one more check afterwards.
+     */
+    private static final class ConditionCheck implements Runnable {
+        private final Condition condition;
+        private final TestContext context;
+
+        /** Completes with true as soon as condition is satisfied */
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        /** Marks a check that has been requested but not started yet */
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        ConditionCheck(Condition condition, TestContext context) {
+            this.condition = condition;
+            this.context = context;
+        }
+
+        /**
+         * Requests new condition check unless another check is already pending.
+         */
+        void request() {
+            if (!result.isDone() && !pending.getAndSet(true)) {
+                ThreadUtils.getWorkerExecutor().execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            pending.set(false);
+
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Waiting for condition %s", condition.getName()));
+                }
+
+                try {
+                    if (condition.isSatisfied(context)) {
+                        result.complete(Boolean.TRUE);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn(String.format("Condition check failed with '%s'", e.getClass().getSimpleName()));
+                }
+            }
+        }
+    }
 }
@@ -18,18 +18,25 @@ package com.consol.citrus.channel;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpointAdapter;
-import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.concurrent.*;
 
 /**
- * Endpoint adapter forwards incoming requests to message channel and waits synchronously for response
- * on reply channel. Provides channel endpoint for clients to connect to message channel in order to provide proper
- * response message.
+ * Endpoint adapter forwards incoming requests to message channel and waits for response on reply channel. Provides
+ * channel endpoint for clients to connect to message channel in order to provide proper response message.
+ *
+ * Each request is parked as pending reply future with a dedicated reply channel. The response sent by the client
+ * completes the future directly so there is no need to poll for reply messages. The calling server thread still waits
+ * on the reply future until the response arrives or the reply timeout is exceeded.
  *
  * @author Christoph Deppisch
  * @since 1.4
@@ -62,20 +69,59 @@ public class ChannelEndpointAdapter extends AbstractEndpointAdapter implements B
     public Message handleMessageInternal(Message request) {
         log.debug("Forwarding request to message channel ...");
 
-        TestContext context = getTestContext();
-        Message replyMessage = null;
         try {
-            producer.send(request, context);
-            if (endpointConfiguration.getCorrelator() != null) {
-                replyMessage = producer.receive(endpointConfiguration.getCorrelator().getCorrelationKey(request), context, endpointConfiguration.getTimeout());
-            } else {
-                replyMessage = producer.receive(context, endpointConfiguration.getTimeout());
-            }
-        } catch (ActionTimeoutException e) {
-            log.warn(e.getMessage());
+            return dispatch(request).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn(getTimeoutMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for reply message on reply channel");
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to handle request message", e.getCause());
         }
 
-        return replyMessage;
+        return null;
+    }
+
+    /**
+     * Sends request to destination channel with pending reply future as reply channel. The returned future completes
+     * as soon as the client sends the response message to the reply channel.
+     * @param request
+     * @return
+     */
+    private CompletableFuture<Message> dispatch(Message request) {
+        final TestContext context = getTestContext();
+        final CompletableFuture<Message> reply = new CompletableFuture<>();
+
+        MessageChannel replyChannel = new MessageChannel() {
+            @Override
+            public boolean send(org.springframework.messaging.Message<?> message) {
+                return reply.complete(endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context));
+            }
+
+            @Override
+            public boolean send(org.springframework.messaging.Message<?> message, long timeout) {
+                return send(message);
+            }
+        };
+
+        org.springframework.messaging.Message<?> requestMessage = MessageBuilder.fromMessage(endpointConfiguration.getMessageConverter().convertOutbound(request, endpointConfiguration, context))
+                .setReplyChannel(replyChannel)
+                .setErrorChannel(replyChannel)
+                .build();
+
+        endpointConfiguration.getMessagingTemplate().send(producer.getDestinationChannel(), requestMessage);
+        log.info("Message was sent to channel: '" + producer.getDestinationChannelName() + "'");
+
+        return reply;
+    }
+
+    /**
+     * Gets the reply timeout log message.
+     * @return
+     */
+    private String getTimeoutMessage() {
+        return "Reply timed out after " + endpointConfiguration.getTimeout() + "ms. Did not receive reply message on reply channel";
     }
 
     @Override
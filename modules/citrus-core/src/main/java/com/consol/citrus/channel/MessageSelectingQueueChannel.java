@@ -24,9 +24,14 @@ import org.springframework.util.Assert;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Added selective consumption of messages according to a message selector implementation.
+ * Selective receivers waiting for a message are signaled as soon as a new message is sent to the channel
+ * so they do not have to wait for the next polling interval.
  * 
  * @author Christoph Deppisch
  */
@@ -39,6 +44,13 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
+
+    /** Lock and condition signaling newly arrived messages to waiting selective receivers */
+    private final ReentrantLock arrivalLock = new ReentrantLock();
+    private final Condition messageArrived = arrivalLock.newCondition();
+
+    /** Number of messages sent to this channel so far, guarded by arrival lock */
+    private long arrivals = 0L;
     
     /**
      * Create a channel with the specified queue.
@@ -74,9 +86,7 @@ public class MessageSelectingQueueChannel extends QueueChannel {
      * @return
      */
     public Message<?> receive(MessageSelector selector) {
-        Object[] array = this.queue.toArray();
-        for (Object o : array) {
-            Message<?> message = (Message<?>) o;
+        for (Message<?> message : this.queue) {
             if (selector.accept(message) && this.queue.remove(message)) {
                 return message;
             }
@@ -86,34 +96,84 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     }
     
     /**
-     * Consume messages on the channel via message selector. Timeout forces several retries
-     * with polling interval setting.
+     * Consume messages on the channel via message selector. Receiver waits for new messages to arrive on the channel
+     * and retries selection immediately. Polling interval is used as maximum wait time between two selection retries.
      * 
      * @param selector
      * @param timeout
      * @return
      */
     public Message<?> receive(MessageSelector selector, long timeout) {
-        long timeLeft = timeout;
-        Message<?> message = receive(selector);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
 
-        while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
-            
+        while (true) {
+            long seenArrivals = getArrivals();
+            Message<?> message = receive(selector);
+
+            long timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (message != null || timeLeft <= 0) {
+                return message;
+            }
+
+            long waitTime = Math.min(pollingInterval, timeLeft);
             if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                RETRY_LOG.debug("No message received with message selector - retrying on next message arrival or in " + waitTime + "ms");
             }
-            
+
             try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
+                awaitArrival(seenArrivals, waitTime);
             } catch (InterruptedException e) {
                 RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
             }
-            
-            message = receive(selector);
         }
-        
-        return message;
+    }
+
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        boolean sent = super.doSend(message, timeout);
+
+        if (sent) {
+            arrivalLock.lock();
+            try {
+                arrivals++;
+                messageArrived.signalAll();
+            } finally {
+                arrivalLock.unlock();
+            }
+        }
+
+        return sent;
+    }
+
+    /**
+     * Waits for next message arrival on this channel. Returns immediately when messages have arrived in the meantime
+     * since given arrival count was read.
+     * @param seenArrivals
+     * @param waitTime
+     * @throws InterruptedException
+     */
+    private void awaitArrival(long seenArrivals, long waitTime) throws InterruptedException {
+        arrivalLock.lock();
+        try {
+            if (arrivals == seenArrivals) {
+                messageArrived.await(waitTime, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            arrivalLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages sent to this channel so far.
+     * @return
+     */
+    private long getArrivals() {
+        arrivalLock.lock();
+        try {
+            return arrivals;
+        } finally {
+            arrivalLock.unlock();
+        }
     }
 
     /**
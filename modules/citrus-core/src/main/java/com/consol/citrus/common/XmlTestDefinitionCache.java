@@ -0,0 +1,173 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of parsed XML test definitions. Each XML test file is parsed to Spring bean definitions only once. Bean definitions
+ * act as immutable template for creating new test case instances. Each test run gets a lightweight application context
+ * holding copies of cached bean definitions so XML parsing and namespace handling is not repeated per test run.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public final class XmlTestDefinitionCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(XmlTestDefinitionCache.class);
+
+    /** Parsed test definitions by XML file path */
+    private static final Map<String, TestDefinition> definitionCache = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private XmlTestDefinitionCache() {
+    }
+
+    /**
+     * Creates new application context with cached bean definitions of given XML test file. Parses XML test file in
+     * case it has not been parsed before.
+     * @param contextFile
+     * @param parentContext
+     * @return
+     */
+    public static GenericApplicationContext createApplicationContext(String contextFile, ApplicationContext parentContext) {
+        TestDefinition definition = getTestDefinition(contextFile, parentContext);
+
+        GenericApplicationContext ctx = new GenericApplicationContext(parentContext);
+        for (Map.Entry<String, BeanDefinition> entry : definition.beanDefinitions.entrySet()) {
+            ctx.registerBeanDefinition(entry.getKey(), copy(entry.getValue()));
+        }
+
+        for (Map.Entry<String, String> alias : definition.aliases.entrySet()) {
+            ctx.registerAlias(alias.getValue(), alias.getKey());
+        }
+
+        AnnotationConfigUtils.registerAnnotationConfigProcessors(ctx);
+        ctx.refresh();
+
+        return ctx;
+    }
+
+    /**
+     * Parses given XML test files in parallel and adds test definitions to the cache. Parsing errors are ignored here
+     * and reported later on when respective test is loaded.
+     * @param contextFiles
+     * @param parentContext
+     */
+    public static void preload(Collection<String> contextFiles, final ApplicationContext parentContext) {
+        long start = System.currentTimeMillis();
+
+        contextFiles.parallelStream().forEach(contextFile -> {
+            try {
+                getTestDefinition(contextFile, parentContext);
+            } catch (RuntimeException e) {
+                log.debug(String.format("Failed to preload XML test definition '%s'", contextFile), e);
+            }
+        });
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Preloaded %s XML test definitions in %s ms", contextFiles.size(), System.currentTimeMillis() - start));
+        }
+    }
+
+    /**
+     * Removes all cached test definitions.
+     */
+    public static void clear() {
+        definitionCache.clear();
+    }
+
+    /**
+     * Gets cached test definition or parses XML test file.
+     * @param contextFile
+     * @param parentContext
+     * @return
+     */
+    private static TestDefinition getTestDefinition(String contextFile, ApplicationContext parentContext) {
+        return definitionCache.computeIfAbsent(contextFile, file -> parse(file, parentContext));
+    }
+
+    /**
+     * Parses bean definitions from XML test file.
+     * @param contextFile
+     * @param parentContext
+     * @return
+     */
+    private static TestDefinition parse(String contextFile, ApplicationContext parentContext) {
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        XmlBeanDefinitionReader reader = new XmlBeanDefinitionReader(registry);
+
+        if (parentContext != null) {
+            reader.setEnvironment(parentContext.getEnvironment());
+        }
+
+        reader.loadBeanDefinitions(new ClassPathResource(contextFile));
+
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        Map<String, String> aliases = new LinkedHashMap<>();
+        for (String beanName : registry.getBeanDefinitionNames()) {
+            beanDefinitions.put(beanName, registry.getBeanDefinition(beanName));
+
+            for (String alias : registry.getAliases(beanName)) {
+                aliases.put(alias, beanName);
+            }
+        }
+
+        return new TestDefinition(beanDefinitions, aliases);
+    }
+
+    /**
+     * Creates copy of cached bean definition so cached template is not modified by application context.
+     * @param beanDefinition
+     * @return
+     */
+    private static BeanDefinition copy(BeanDefinition beanDefinition) {
+        if (beanDefinition instanceof AbstractBeanDefinition) {
+            return ((AbstractBeanDefinition) beanDefinition).cloneBeanDefinition();
+        }
+
+        return beanDefinition;
+    }
+
+    /**
+     * Parsed XML test definition holding bean definitions and aliases.
+     */
+    private static final class TestDefinition {
+        private final Map<String, BeanDefinition> beanDefinitions;
+        private final Map<String, String> aliases;
+
+        TestDefinition(Map<String, BeanDefinition> beanDefinitions, Map<String, String> aliases) {
+            this.beanDefinitions = Collections.unmodifiableMap(beanDefinitions);
+            this.aliases = Collections.unmodifiableMap(aliases);
+        }
+    }
+}
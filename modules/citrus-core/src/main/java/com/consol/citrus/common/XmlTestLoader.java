@@ -20,7 +20,6 @@ import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContextFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.util.StringUtils;
 
 import java.io.File;
@@ -28,7 +27,8 @@ import java.io.File;
 /**
  * Loads test case as Spring bean from XML application context file. Loader holds application context file
  * for test case and a parent application context. At runtime this class loads the Spring application context and gets
- * test case bean instance from context.
+ * test case bean instance from context. XML test files are parsed only once, application context is created from
+ * cached bean definitions provided by {@link XmlTestDefinitionCache}.
  *
  * @author Christoph Deppisch
  * @since 2.1
@@ -81,11 +81,7 @@ public class XmlTestLoader implements TestLoader {
      */
     private ApplicationContext loadApplicationContext() {
         try {
-            return new ClassPathXmlApplicationContext(
-                    new String[]{
-                            getContextFile(),
-                            "com/consol/citrus/spring/annotation-config-ctx.xml"},
-                    true, parentContext);
+            return XmlTestDefinitionCache.createApplicationContext(getContextFile(), parentContext);
         } catch (Exception e) {
             throw parentContext.getBean(TestContextFactory.class).getObject()
                     .handleError(testName, packageName, "Failed to load test case", e);
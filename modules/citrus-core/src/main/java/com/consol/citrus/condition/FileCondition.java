@@ -22,14 +22,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.Executor;
 
 /**
- * Tests for the presence of a file and returns true if the file exists
+ * Tests for the presence of a file and returns true if the file exists. Condition observes the parent directory
+ * of the file with a {@link WatchService} so waiting actions get notified as soon as the file is created.
  *
  * @author Martin Maher
  * @since 2.4
  */
-public class FileCondition extends AbstractCondition {
+public class FileCondition extends AbstractCondition implements ObservableCondition {
 
     /** File path to check for existence */
     private String filePath;
@@ -58,6 +61,75 @@ public class FileCondition extends AbstractCondition {
         }
     }
 
+    @Override
+    public Subscription subscribe(TestContext context, final Runnable listener, Executor executor) {
+        final Path file;
+        try {
+            file = FileUtils.getFileResource(filePath, context).getFile().getAbsoluteFile().toPath();
+        } catch (IOException e) {
+            return null;
+        }
+
+        final Path directory = file.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return null;
+        }
+
+        final WatchService watchService;
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+        } catch (IOException e) {
+            log.warn(String.format("Failed to create watch service for directory '%s'", directory), e);
+            return null;
+        }
+
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn(String.format("Failed to watch directory '%s'", directory), e);
+            closeQuietly(watchService);
+            return null;
+        }
+
+        executor.execute(() -> {
+            try {
+                WatchKey key;
+                do {
+                    key = watchService.take();
+
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                            changed = true;
+                        }
+                    }
+
+                    if (changed) {
+                        listener.run();
+                    }
+                } while (key.reset());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ClosedWatchServiceException e) {
+                log.debug(String.format("Stopped watching directory '%s'", directory));
+            }
+        });
+
+        return () -> closeQuietly(watchService);
+    }
+
+    /**
+     * Closes watch service ignoring errors.
+     * @param watchService
+     */
+    private void closeQuietly(WatchService watchService) {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Failed to close watch service", e);
+        }
+    }
+
     @Override
     public String getSuccessMessage(TestContext context) {
         return String.format("File condition success - file '%s' does exist", context.replaceDynamicContentInString(filePath));
@@ -22,11 +22,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.*;
 
 /**
  * Tests if a HTTP Endpoint is reachable. The test is successful if the endpoint responds with the expected response
- * code. By default a HTTP 200 response code is expected.
+ * code. By default a HTTP 200 response code is expected. Response body is consumed and connection is not disconnected
+ * so repeated probes reuse the kept alive connection.
  *
  * @author Martin Maher
  * @since 2.4
@@ -85,12 +87,14 @@ public class HttpCondition extends AbstractCondition {
         try {
             httpURLConnection = openConnection(url);
             httpURLConnection.setConnectTimeout(getTimeout(context));
+            httpURLConnection.setReadTimeout(getTimeout(context));
             httpURLConnection.setRequestMethod(method);
 
             responseCode = httpURLConnection.getResponseCode();
+            consumeResponse(httpURLConnection, responseCode);
         } catch (IOException e) {
             log.warn(String.format("Could not access Http url '%s' - %s", url.toExternalForm(), e.getMessage()));
-        } finally {
+
             if (httpURLConnection != null) {
                 httpURLConnection.disconnect();
             }
@@ -99,6 +103,25 @@ public class HttpCondition extends AbstractCondition {
         return responseCode;
     }
 
+    /**
+     * Reads and closes response body so underlying connection is returned to the keep alive cache for reuse.
+     * @param httpURLConnection
+     * @param responseCode
+     * @throws IOException
+     */
+    private void consumeResponse(HttpURLConnection httpURLConnection, int responseCode) throws IOException {
+        InputStream body = responseCode >= HttpURLConnection.HTTP_BAD_REQUEST ? httpURLConnection.getErrorStream() : httpURLConnection.getInputStream();
+
+        if (body != null) {
+            try (InputStream in = body) {
+                byte[] buffer = new byte[1024];
+                while (in.read(buffer) != -1) {
+                    // discard response body
+                }
+            }
+        }
+    }
+
     /**
      * Open Http url connection.
      * @param url
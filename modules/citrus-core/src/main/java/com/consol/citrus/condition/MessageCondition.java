@@ -17,18 +17,22 @@
 package com.consol.citrus.condition;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.*;
+
+import java.util.concurrent.Executor;
 
 /**
  * Condition checks whether a message is present in test context message store. Messages are automatically
  * stored in that store when sending and receiving messages with respective test actions. So this condition
  * can be used to wait for a message to arrive or being sent out.
  *
- * Message to check is identified by its name in the message store.
+ * Message to check is identified by its name in the message store. When message store supports listeners the condition
+ * notifies waiting actions as soon as the message is stored.
  *
  * @author Christoph Deppisch
  * @since 2.6.2
  */
-public class MessageCondition extends AbstractCondition {
+public class MessageCondition extends AbstractCondition implements ObservableCondition {
 
     /** Message that should be present in message store */
     private String messageName;
@@ -38,6 +42,24 @@ public class MessageCondition extends AbstractCondition {
         return context.getMessageStore().getMessage(context.replaceDynamicContentInString(messageName)) != null;
     }
 
+    @Override
+    public Subscription subscribe(TestContext context, final Runnable listener, Executor executor) {
+        if (!(context.getMessageStore() instanceof ObservableMessageStore)) {
+            return null;
+        }
+
+        final ObservableMessageStore messageStore = (ObservableMessageStore) context.getMessageStore();
+        final String name = context.replaceDynamicContentInString(messageName);
+        final MessageStoreListener storeListener = (id, message) -> {
+            if (name.equals(id)) {
+                listener.run();
+            }
+        };
+
+        messageStore.addListener(storeListener);
+        return () -> messageStore.removeListener(storeListener);
+    }
+
     @Override
     public String getSuccessMessage(TestContext context) {
         return String.format("Message condition success - found message '%s' in message store", context.replaceDynamicContentInString(messageName));
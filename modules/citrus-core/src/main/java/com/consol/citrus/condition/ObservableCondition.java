@@ -0,0 +1,53 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.condition;
+
+import com.consol.citrus.context.TestContext;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Condition that is able to notify listeners as soon as the condition may have changed. Waiting test actions use
+ * these notifications to test the condition right away instead of waiting for the next check interval.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public interface ObservableCondition extends Condition {
+
+    /**
+     * Registers listener that gets called each time the condition may have changed. Listener is supposed to test
+     * the condition again. Returns null when condition is not able to observe changes in current test context, so
+     * caller has to fall back to checking the condition in intervals.
+     *
+     * @param context the citrus test context
+     * @param listener callback invoked on changes
+     * @param executor executor for background tasks that observe changes
+     * @return the subscription or null
+     */
+    Subscription subscribe(TestContext context, Runnable listener, Executor executor);
+
+    /**
+     * Active listener registration on a condition.
+     */
+    interface Subscription {
+        /**
+         * Removes listener and releases all resources used to observe changes.
+         */
+        void cancel();
+    }
+}
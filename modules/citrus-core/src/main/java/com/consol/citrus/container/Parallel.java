@@ -20,24 +20,39 @@ import com.consol.citrus.TestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ParallelContainerException;
+import com.consol.citrus.util.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Test action will execute nested actions in parallel. Each action is executed in a
- * separate thread. Container joins all threads and waiting for them to end successfully.
+ * separate thread. Container waits for all actions to end successfully.
+ *
+ * Actions are executed on an executor service which is by default a shared unbounded pool of reusable daemon threads, so
+ * each action still gets its own thread. Custom executor services (e.g. fixed thread pools or virtual thread executors)
+ * can be set. Bounded executors must provide enough threads for all actions that wait on each other. The number of
+ * concurrently executed actions can be limited and the container optionally cancels all other actions as soon as one
+ * of the actions has failed.
  * 
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private Stack<Thread> threads = new Stack<Thread>();
+    /** Shared default executor reusing idle threads among all parallel containers */
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(ThreadUtils.daemonThreadFactory("citrus-parallel-"));
+
+    /** Executor service running the nested actions */
+    private ExecutorService executorService = DEFAULT_EXECUTOR;
 
-    /** Collect exceptions in list */
-    private List<CitrusRuntimeException> exceptions = new ArrayList<CitrusRuntimeException>();
+    /** Maximum number of concurrently running actions, zero or negative value means limited by executor service only */
+    private int maxConcurrency = 0;
+
+    /** Cancel all other actions as soon as one action has failed */
+    private boolean failFast = false;
     
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(Parallel.class);
@@ -51,37 +66,165 @@ public class Parallel extends AbstractActionContainer {
 
     @Override
     public void doExecute(TestContext context) {
-        for (final TestAction action : actions) {
-            Thread t = new Thread(new ActionRunner(action, context) {
-                @Override
-                public void exceptionCallback(CitrusRuntimeException e) {
-                    if (exceptions.isEmpty()) {
-                        setLastExecutedAction(action);
-                    }
-                    
-                    exceptions.add(e);
+        final List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<CitrusRuntimeException>());
+        final BlockingQueue<ActionTask> completed = new LinkedBlockingQueue<>();
+        List<ActionTask> tasks = new ArrayList<>();
+
+        Iterator<TestAction> pending = actions.iterator();
+        int running = 0;
+        try {
+            while (pending.hasNext() || running > 0) {
+                while (pending.hasNext() && (maxConcurrency <= 0 || running < maxConcurrency)) {
+                    final TestAction action = pending.next();
+                    ActionTask task = new ActionTask(new ActionRunner(action, context) {
+                        @Override
+                        public void exceptionCallback(CitrusRuntimeException e) {
+                            synchronized (exceptions) {
+                                if (exceptions.isEmpty()) {
+                                    setLastExecutedAction(action);
+                                }
+
+                                exceptions.add(e);
+                            }
+                        }
+                    }, completed);
+                    tasks.add(task);
+                    executorService.execute(task);
+                    running++;
                 }
-            });
 
-            threads.push(t);
-            t.start();
-        }
+                completed.take();
+                running--;
 
-        while (!threads.isEmpty()) {
-            try {
-                threads.pop().join();
-            } catch (InterruptedException e) {
-                log.error("Unable to join thread", e);
+                if (failFast && !exceptions.isEmpty()) {
+                    log.warn("Parallel test action failed - cancel all remaining actions");
+                    cancel(tasks);
+                    awaitStarted(tasks);
+                    break;
+                }
             }
+        } catch (InterruptedException e) {
+            cancel(tasks);
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for parallel actions to complete", e);
         }
         
         if (!exceptions.isEmpty()) {
             if (exceptions.size() == 1) {
                 throw exceptions.get(0);
             } else {
-                throw new ParallelContainerException(exceptions);
+                throw new ParallelContainerException(new ArrayList<>(exceptions));
+            }
+        }
+    }
+
+    /**
+     * Cancels all given action executions that have not completed yet.
+     * @param tasks
+     */
+    private void cancel(List<ActionTask> tasks) {
+        for (ActionTask task : tasks) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Waits for all started actions to finish as actions may ignore the interrupt on cancel.
+     * @param tasks
+     * @throws InterruptedException
+     */
+    private void awaitStarted(List<ActionTask> tasks) throws InterruptedException {
+        for (ActionTask task : tasks) {
+            task.awaitFinished();
+        }
+    }
+
+    /**
+     * Sets the executor service running the nested actions.
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Gets the executor service running the nested actions.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the maximum number of concurrently running actions.
+     * @param maxConcurrency
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets the maximum number of concurrently running actions.
+     * @return
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the fail fast flag.
+     * @param failFast
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * Gets the fail fast flag.
+     * @return
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Future task executing an action on executor service thread. Tracks whether the action has been started so
+     * cancelled containers are able to wait for running actions. Completed tasks are added to the completion queue.
+     */
+    private static final class ActionTask extends FutureTask<Void> {
+        private final BlockingQueue<ActionTask> completed;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        ActionTask(Runnable runner, BlockingQueue<ActionTask> completed) {
+            super(runner, null);
+            this.completed = completed;
+        }
+
+        @Override
+        public void run() {
+            started.set(true);
+            try {
+                super.run();
+            } finally {
+                finished.countDown();
             }
         }
+
+        /**
+         * Waits for the action to finish if it has been started.
+         * @throws InterruptedException
+         */
+        void awaitFinished() throws InterruptedException {
+            if (started.get()) {
+                finished.await();
+            }
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
     }
 
     /**
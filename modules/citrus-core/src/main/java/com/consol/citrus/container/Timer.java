@@ -19,15 +19,21 @@ package com.consol.citrus.container;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
-import java.util.TimerTask;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Container executes nested actions periodically at fixed rate. All timers share the Citrus scheduler thread that
+ * triggers timer events, nested actions run on the shared Citrus worker executor by default. Timer events that fire while
+ * nested actions of the previous event are still running get executed right after so no event is lost. Timer keeps track
+ * of the drift between scheduled and actual execution time of each timer event.
+ *
  * @author Martin Maher
  * @since 2.5
  */
@@ -45,9 +51,20 @@ public class Timer extends AbstractActionContainer implements StopTimer {
     private boolean fork = false;
     private String timerId;
 
-    protected boolean timerComplete = false;
-    protected CitrusRuntimeException timerException = null;
-    private java.util.Timer timer;
+    /** Executor service running the nested actions */
+    private ExecutorService executorService = ThreadUtils.getWorkerExecutor();
+
+    protected volatile boolean timerComplete = false;
+    protected volatile CitrusRuntimeException timerException = null;
+
+    /** Scheduled timer events and completion of current timer run */
+    private volatile ScheduledFuture<?> scheduledEvents;
+    private volatile CompletableFuture<Void> completion = CompletableFuture.completedFuture(null);
+
+    /** Timer event drift statistics in milliseconds */
+    private final AtomicLong maxDrift = new AtomicLong();
+    private final AtomicLong totalDrift = new AtomicLong();
+    private final AtomicInteger firedEvents = new AtomicInteger();
 
     public Timer() {
         setName("timer");
@@ -55,31 +72,94 @@ public class Timer extends AbstractActionContainer implements StopTimer {
 
     @Override
     public void doExecute(final TestContext context) {
+        CompletableFuture<Void> timerRun = startTimer(context);
+
         if (fork) {
-            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(new Runnable() {
-                public void run() {
-                    configureAndRunTimer(context);
-                }
-            });
-        } else {
-            configureAndRunTimer(context);
+            return;
+        }
+
+        try {
+            timerRun.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for timer to complete", e);
+            stopTimer();
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException(e.getCause());
+        }
+
+        if (timerException != null) {
+            throw timerException;
         }
     }
 
-    private void configureAndRunTimer(final TestContext context) {
-        timer = new java.util.Timer(getTimerId(), false);
+    /**
+     * Registers timer in test context and schedules timer events at fixed rate.
+     * @param context
+     * @return future completing when timer is stopped
+     */
+    private CompletableFuture<Void> startTimer(final TestContext context) {
+        timerComplete = false;
+        timerException = null;
+        maxDrift.set(0L);
+        totalDrift.set(0L);
+        firedEvents.set(0);
+        completion = new CompletableFuture<>();
 
         context.registerTimer(getTimerId(), this);
 
-        TimerTask timerTask = new TimerTask() {
-            int indexCount = 0;
+        final TimerEvents events = new TimerEvents(context, System.currentTimeMillis() + delay);
+        scheduledEvents = ThreadUtils.getScheduler().scheduleAtFixedRate(events::fire, delay, interval, TimeUnit.MILLISECONDS);
+
+        if (completion.isDone()) {
+            scheduledEvents.cancel(false);
+        }
+
+        return completion;
+    }
+
+    /**
+     * Timer events of a single timer run. Events are dispatched to the executor service, events that fire while
+     * nested actions are still running are queued and executed right after.
+     */
+    private final class TimerEvents implements Runnable {
+        private final TestContext context;
+        private final long firstEventTime;
+
+        /** Number of timer events that fired but have not been executed yet */
+        private final AtomicInteger pendingEvents = new AtomicInteger();
+
+        private int indexCount = 0;
+
+        TimerEvents(TestContext context, long firstEventTime) {
+            this.context = context;
+            this.firstEventTime = firstEventTime;
+        }
+
+        /**
+         * Invoked by scheduler on each timer event.
+         */
+        void fire() {
+            if (pendingEvents.getAndIncrement() == 0) {
+                try {
+                    executorService.execute(this);
+                } catch (RejectedExecutionException e) {
+                    handleException(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                if (timerComplete) {
+                    return;
+                }
 
-            @Override
-            public void run() {
                 try {
                     indexCount++;
-                    updateIndexCountInTestContext(context);
+                    recordDrift(indexCount);
+                    updateIndexCountInTestContext();
                     log.debug(String.format("Timer event fired #%s - executing nested actions", indexCount));
 
                     for (TestAction action : actions) {
@@ -93,38 +173,41 @@ public class Timer extends AbstractActionContainer implements StopTimer {
                 } catch (Exception e) {
                     handleException(e);
                 }
-            }
+            } while (pendingEvents.decrementAndGet() > 0);
+        }
 
-            private void updateIndexCountInTestContext(TestContext context) {
-                context.setVariable(getTimerId() + INDEX_SUFFIX, String.valueOf(indexCount));
-            }
+        private void recordDrift(int index) {
+            long drift = System.currentTimeMillis() - (firstEventTime + (index - 1) * interval);
 
-            private void handleException(Exception e) {
-                if (e instanceof CitrusRuntimeException) {
-                    timerException = (CitrusRuntimeException) e;
-                } else {
-                    timerException = new CitrusRuntimeException(e);
-                }
-                log.error(String.format("Timer stopped as a result of nested action error (%s)", e.getMessage()));
-                stopTimer();
+            totalDrift.addAndGet(drift);
+            firedEvents.incrementAndGet();
 
-                if (fork) {
-                    context.addException(timerException);
-                }
-            }
-        };
-        timer.scheduleAtFixedRate(timerTask, delay, interval);
-
-        while (!timerComplete) {
-            try {
-                Thread.sleep(interval);
-            } catch (InterruptedException e) {
-                log.warn("Interrupted while waiting for timer to complete", e);
+            long max;
+            do {
+                max = maxDrift.get();
+            } while (drift > max && !maxDrift.compareAndSet(max, drift));
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Timer event #%s drift: %s ms", index, drift));
             }
         }
 
-        if (timerException != null) {
-            throw timerException;
+        private void updateIndexCountInTestContext() {
+            context.setVariable(getTimerId() + INDEX_SUFFIX, String.valueOf(indexCount));
+        }
+
+        private void handleException(Exception e) {
+            if (e instanceof CitrusRuntimeException) {
+                timerException = (CitrusRuntimeException) e;
+            } else {
+                timerException = new CitrusRuntimeException(e);
+            }
+            log.error(String.format("Timer stopped as a result of nested action error (%s)", e.getMessage()));
+            stopTimer();
+
+            if (fork) {
+                context.addException(timerException);
+            }
         }
     }
 
@@ -137,8 +220,30 @@ public class Timer extends AbstractActionContainer implements StopTimer {
 
     @Override
     public void stopTimer() {
-        timer.cancel();
         timerComplete = true;
+
+        if (scheduledEvents != null) {
+            scheduledEvents.cancel(false);
+        }
+
+        completion.complete(null);
+    }
+
+    /**
+     * Gets the maximum drift between scheduled and actual timer event execution in milliseconds.
+     * @return
+     */
+    public long getMaxDrift() {
+        return maxDrift.get();
+    }
+
+    /**
+     * Gets the average drift between scheduled and actual timer event execution in milliseconds.
+     * @return
+     */
+    public long getAverageDrift() {
+        int events = firedEvents.get();
+        return events > 0 ? totalDrift.get() / events : 0L;
     }
 
     private static int serialNumber() {
@@ -173,6 +278,22 @@ public class Timer extends AbstractActionContainer implements StopTimer {
         this.timerId = timerId;
     }
 
+    /**
+     * Sets the executor service running the nested actions.
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Gets the executor service running the nested actions.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
     public boolean isFork() {
         return fork;
     }
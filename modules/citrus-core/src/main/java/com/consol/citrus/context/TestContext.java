@@ -32,6 +32,7 @@ import com.consol.citrus.validation.MessageValidatorRegistry;
 import com.consol.citrus.validation.interceptor.MessageConstructionInterceptors;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
 import com.consol.citrus.variable.GlobalVariables;
+import com.consol.citrus.variable.LayeredVariables;
 import com.consol.citrus.variable.VariableUtils;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import org.slf4j.Logger;
@@ -56,17 +57,17 @@ public class TestContext {
      */
     private static Logger log = LoggerFactory.getLogger(TestContext.class);
     
-    /** Local variables */
+    /** Local variables, by default layered on top of global variables */
     protected Map<String, Object> variables;
     
     /** Global variables */
     private GlobalVariables globalVariables;
 
     /** Message store */
-    private MessageStore messageStore = new DefaultMessageStore();
+    private volatile MessageStore messageStore;
     
     /** Function registry holding all available functions */
-    private FunctionRegistry functionRegistry = new FunctionRegistry();
+    private volatile FunctionRegistry functionRegistry;
 
     /** Endpoint factory creates endpoint instances */
     private EndpointFactory endpointFactory;
@@ -75,22 +76,22 @@ public class TestContext {
     private ReferenceResolver referenceResolver;
     
     /** Registered message validators */
-    private MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
+    private volatile MessageValidatorRegistry messageValidatorRegistry;
     
     /** Registered validation matchers */
-    private ValidationMatcherRegistry validationMatcherRegistry = new ValidationMatcherRegistry();
+    private volatile ValidationMatcherRegistry validationMatcherRegistry;
 
     /** List of test listeners to be informed on test events */
-    private TestListeners testListeners = new TestListeners();
+    private volatile TestListeners testListeners;
 
     /** List of message listeners to be informed on inbound and outbound message exchange */
-    private MessageListeners messageListeners = new MessageListeners();
+    private volatile MessageListeners messageListeners;
 
     /** List of global message construction interceptors */
-    private MessageConstructionInterceptors messageConstructionInterceptors = new MessageConstructionInterceptors();
+    private MessageConstructionInterceptors messageConstructionInterceptors;
 
     /** Central namespace context builder */
-    private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
+    private NamespaceContextBuilder namespaceContextBuilder;
 
     /** Spring bean application context */
     private ApplicationContext applicationContext;
@@ -102,10 +103,11 @@ public class TestContext {
     private List<CitrusRuntimeException> exceptions = new ArrayList<>();
 
     /**
-     * Default constructor
+     * Default constructor. Registries and message store are created lazily on first access in case
+     * they have not been set before, so creating a context with shared registries is cheap.
      */
     public TestContext() {
-        variables = new ConcurrentHashMap<String, Object>();
+        variables = new LayeredVariables();
     }
     
     /**
@@ -288,8 +290,12 @@ public class TestContext {
      * Clears variables in this test context. Initially adds all global variables.
      */
     public void clear() {
-        variables.clear();
-        variables.putAll(globalVariables.getVariables());
+        if (variables instanceof LayeredVariables && ((LayeredVariables) variables).getParent() == globalVariables.getVariables()) {
+            ((LayeredVariables) variables).reset();
+        } else {
+            variables.clear();
+            variables.putAll(globalVariables.getVariables());
+        }
     }
     
     /**
@@ -336,7 +342,7 @@ public class TestContext {
     public String resolveDynamicValue(String expression) {
         if (VariableUtils.isVariableName(expression)) {
             return getVariable(expression);
-        } else if (functionRegistry.isFunction(expression)) {
+        } else if (getFunctionRegistry().isFunction(expression)) {
             return FunctionUtils.resolveFunction(expression, this);
         }
         return expression;
@@ -360,9 +366,9 @@ public class TestContext {
         CitrusRuntimeException exception = new CitrusRuntimeException(message, cause);
 
         // inform test listeners with failed test
-        testListeners.onTestStart(dummyTest);
-        testListeners.onTestFailure(dummyTest, exception);
-        testListeners.onTestFinish(dummyTest);
+        getTestListeners().onTestStart(dummyTest);
+        getTestListeners().onTestFailure(dummyTest, exception);
+        getTestListeners().onTestFinish(dummyTest);
 
         return exception;
     }
@@ -389,8 +395,12 @@ public class TestContext {
      */
 	public void setGlobalVariables(GlobalVariables globalVariables) {
 		this.globalVariables = globalVariables;
-		
-		variables.putAll(globalVariables.getVariables());
+
+		if (variables instanceof LayeredVariables && ((LayeredVariables) variables).getParent().isEmpty()) {
+			((LayeredVariables) variables).setParent(globalVariables.getVariables());
+		} else {
+			variables.putAll(globalVariables.getVariables());
+		}
 	}
 
     /**
@@ -416,6 +426,14 @@ public class TestContext {
      * @return the messageStore
      */
     public MessageStore getMessageStore() {
+        if (messageStore == null) {
+            synchronized (this) {
+                if (messageStore == null) {
+                    messageStore = new DefaultMessageStore();
+                }
+            }
+        }
+
         return messageStore;
     }
 
@@ -424,6 +442,14 @@ public class TestContext {
      * @return the functionRegistry
      */
     public FunctionRegistry getFunctionRegistry() {
+        if (functionRegistry == null) {
+            synchronized (this) {
+                if (functionRegistry == null) {
+                    functionRegistry = new FunctionRegistry();
+                }
+            }
+        }
+
         return functionRegistry;
     }
 
@@ -448,6 +474,14 @@ public class TestContext {
      * @return the messageValidatorRegistry
      */
     public MessageValidatorRegistry getMessageValidatorRegistry() {
+        if (messageValidatorRegistry == null) {
+            synchronized (this) {
+                if (messageValidatorRegistry == null) {
+                    messageValidatorRegistry = new MessageValidatorRegistry();
+                }
+            }
+        }
+
         return messageValidatorRegistry;
     }
 
@@ -456,6 +490,14 @@ public class TestContext {
      * @return
      */
     public ValidationMatcherRegistry getValidationMatcherRegistry() {
+        if (validationMatcherRegistry == null) {
+            synchronized (this) {
+                if (validationMatcherRegistry == null) {
+                    validationMatcherRegistry = new ValidationMatcherRegistry();
+                }
+            }
+        }
+
         return validationMatcherRegistry;
     }
 
@@ -472,6 +514,14 @@ public class TestContext {
      * @return
      */
     public MessageListeners getMessageListeners() {
+        if (messageListeners == null) {
+            synchronized (this) {
+                if (messageListeners == null) {
+                    messageListeners = new MessageListeners();
+                }
+            }
+        }
+
         return messageListeners;
     }
 
@@ -488,6 +538,14 @@ public class TestContext {
      * @return
      */
     public TestListeners getTestListeners() {
+        if (testListeners == null) {
+            synchronized (this) {
+                if (testListeners == null) {
+                    testListeners = new TestListeners();
+                }
+            }
+        }
+
         return testListeners;
     }
 
@@ -504,6 +562,10 @@ public class TestContext {
      * @return
      */
     public MessageConstructionInterceptors getMessageConstructionInterceptors() {
+        if (messageConstructionInterceptors == null) {
+            messageConstructionInterceptors = new MessageConstructionInterceptors();
+        }
+
         return messageConstructionInterceptors;
     }
 
@@ -562,6 +624,10 @@ public class TestContext {
      * @return
      */
     public NamespaceContextBuilder getNamespaceContextBuilder() {
+        if (namespaceContextBuilder == null) {
+            namespaceContextBuilder = new NamespaceContextBuilder();
+        }
+
         return namespaceContextBuilder;
     }
 
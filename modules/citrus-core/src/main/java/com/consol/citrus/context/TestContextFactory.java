@@ -17,7 +17,9 @@
 package com.consol.citrus.context;
 
 import com.consol.citrus.endpoint.EndpointFactory;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.message.MessageStore;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.validation.MessageValidatorRegistry;
@@ -29,17 +31,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Factory bean implementation taking care of {@link FunctionRegistry} and {@link GlobalVariables}.
  * 
  * @author Christoph Deppisch
  */
-public class TestContextFactory implements FactoryBean<TestContext>, ApplicationContextAware {
+public class TestContextFactory implements FactoryBean<TestContext>, InitializingBean, ApplicationContextAware {
     
     @Autowired
     private FunctionRegistry functionRegistry;
@@ -73,6 +77,9 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
 
     /** Spring bean application context */
     private ApplicationContext applicationContext;
+
+    /** Name of prototype message store bean creating a new message store for each test context */
+    private String messageStoreBeanName;
     
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(TestContextFactory.class);
@@ -118,6 +125,7 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
         }
 
         factory.setApplicationContext(applicationContext);
+        factory.afterPropertiesSet();
 
         return factory;
     }
@@ -142,6 +150,10 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
             context.setNamespaceContextBuilder(namespaceContextBuilder);
         }
 
+        if (messageStoreBeanName != null) {
+            context.setMessageStore(applicationContext.getBean(messageStoreBeanName, MessageStore.class));
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Created new test context - using global variables: '"
                     + context.getGlobalVariables() + "'");
@@ -150,6 +162,27 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
         return context;
     }
 
+    /**
+     * Resolves message store bean in application context. Message store bean must be prototype scoped as each
+     * test context gets its own message store that is closed when the test has finished.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (applicationContext == null) {
+            return;
+        }
+
+        String[] messageStores = applicationContext.getBeanNamesForType(MessageStore.class);
+        if (!ObjectUtils.isEmpty(messageStores)) {
+            if (!applicationContext.isPrototype(messageStores[0])) {
+                throw new CitrusRuntimeException(String.format("Message store bean '%s' must be prototype scoped " +
+                        "as message stores are not shared between test contexts", messageStores[0]));
+            }
+
+            messageStoreBeanName = messageStores[0];
+        }
+    }
+
     /**
      * @see org.springframework.beans.factory.FactoryBean#getObjectType()
      */
@@ -25,6 +25,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationContextEvent;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
 
@@ -42,10 +44,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * Default endpoint components are listed in property file reference where key is the component name and value is the fully qualified class name
  * of the implementing endpoint component class.
  *
+ * Endpoint components and annotation parsers are resolved once per application context and cached until the application context
+ * is refreshed or closed. Default components and parsers are instantiated only once.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class DefaultEndpointFactory implements EndpointFactory {
+public class DefaultEndpointFactory implements EndpointFactory, ApplicationListener<ApplicationContextEvent> {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(DefaultEndpointFactory.class);
@@ -59,6 +64,16 @@ public class DefaultEndpointFactory implements EndpointFactory {
     /** Endpoint cache for endpoint reuse */
     private Map<String, Endpoint> endpointCache = new ConcurrentHashMap<>();
 
+    /** Endpoint cache names by endpoint uri */
+    private Map<String, String> endpointNames = new ConcurrentHashMap<>();
+
+    /** Endpoint components and annotation parsers resolved per application context */
+    private final Map<ApplicationContext, ContextBeans> contextBeans = Collections.synchronizedMap(new WeakHashMap<ApplicationContext, ContextBeans>());
+
+    /** Instantiated default components and parsers */
+    private final Map<String, EndpointComponent> defaultComponents = new ConcurrentHashMap<>();
+    private final Map<String, AnnotationConfigParser> defaultAnnotationParsers = new ConcurrentHashMap<>();
+
     @Autowired
     private ReferenceResolver referenceResolver;
 
@@ -77,7 +92,7 @@ public class DefaultEndpointFactory implements EndpointFactory {
 
         if (parser == null) {
             // try to get parser from default Citrus modules
-            parser = resolveDefaultAnnotationParser(qualifier);
+            parser = defaultAnnotationParsers.computeIfAbsent(qualifier, this::resolveDefaultAnnotationParser);
         }
 
         if (parser == null) {
@@ -96,6 +111,17 @@ public class DefaultEndpointFactory implements EndpointFactory {
             return context.getApplicationContext().getBean(endpointUri, Endpoint.class);
         }
 
+        String endpointName = endpointNames.get(endpointUri);
+        if (endpointName != null) {
+            Endpoint cached = endpointCache.get(endpointName);
+            if (cached != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Found cached endpoint for uri '%s'", endpointName));
+                }
+                return cached;
+            }
+        }
+
         StringTokenizer tok = new StringTokenizer(endpointUri, ":");
         if (tok.countTokens() < 2) {
             throw new CitrusRuntimeException(String.format("Invalid endpoint uri '%s'", endpointUri));
@@ -106,7 +132,7 @@ public class DefaultEndpointFactory implements EndpointFactory {
 
         if (component == null) {
             // try to get component from default Citrus modules
-            component = resolveDefaultComponent(componentName);
+            component = defaultComponents.computeIfAbsent(componentName, this::resolveDefaultComponent);
         }
 
         if (component == null) {
@@ -121,22 +147,36 @@ public class DefaultEndpointFactory implements EndpointFactory {
             cachedEndpointName = endpointUri;
         }
 
-        synchronized (endpointCache) {
-            if (endpointCache.containsKey(cachedEndpointName)) {
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Found cached endpoint for uri '%s'", cachedEndpointName));
-                }
-                return endpointCache.get(cachedEndpointName);
-            } else {
-                Endpoint endpoint = component.createEndpoint(endpointUri, context);
-                endpointCache.put(cachedEndpointName, endpoint);
-                return endpoint;
-            }
+        endpointNames.put(endpointUri, cachedEndpointName);
+
+        final EndpointComponent endpointComponent = component;
+        return endpointCache.computeIfAbsent(cachedEndpointName, name -> endpointComponent.createEndpoint(endpointUri, context));
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationContextEvent event) {
+        contextBeans.remove(event.getApplicationContext());
+    }
+
+    /**
+     * Resolves endpoint components and annotation parsers from given application context. Resolved beans are cached
+     * as long as the application context is not refreshed or closed.
+     * @param applicationContext
+     * @return
+     */
+    private ContextBeans resolveFromContext(ApplicationContext applicationContext) {
+        ContextBeans beans = contextBeans.get(applicationContext);
+        if (beans == null) {
+            beans = new ContextBeans(applicationContext.getBeansOfType(EndpointComponent.class),
+                    applicationContext.getBeansOfType(AnnotationConfigParser.class));
+            contextBeans.put(applicationContext, beans);
         }
+
+        return beans;
     }
 
     private Map<String, EndpointComponent> getEndpointComponents(ApplicationContext applicationContext) {
-        return applicationContext.getBeansOfType(EndpointComponent.class);
+        return resolveFromContext(applicationContext).endpointComponents;
     }
 
     private EndpointComponent resolveDefaultComponent(String componentName) {
@@ -161,7 +201,7 @@ public class DefaultEndpointFactory implements EndpointFactory {
     }
 
     private Map<String, AnnotationConfigParser> getAnnotationParser(ApplicationContext applicationContext) {
-        return applicationContext.getBeansOfType(AnnotationConfigParser.class);
+        return resolveFromContext(applicationContext).annotationParsers;
     }
 
     private AnnotationConfigParser resolveDefaultAnnotationParser(String qualifier) {
@@ -207,4 +247,17 @@ public class DefaultEndpointFactory implements EndpointFactory {
             log.warn("Unable to laod default endpoint annotation parsers from resource '%s'", e);
         }
     }
+
+    /**
+     * Endpoint components and annotation parsers defined in an application context.
+     */
+    private static final class ContextBeans {
+        private final Map<String, EndpointComponent> endpointComponents;
+        private final Map<String, AnnotationConfigParser> annotationParsers;
+
+        ContextBeans(Map<String, EndpointComponent> endpointComponents, Map<String, AnnotationConfigParser> annotationParsers) {
+            this.endpointComponents = endpointComponents;
+            this.annotationParsers = annotationParsers;
+        }
+    }
 }
@@ -19,6 +19,7 @@ package com.consol.citrus.endpoint.adapter;
 import com.consol.citrus.TestCase;
 import com.consol.citrus.channel.ChannelEndpointAdapter;
 import com.consol.citrus.channel.ChannelSyncEndpointConfiguration;
+import com.consol.citrus.common.XmlTestDefinitionCache;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.EndpointAdapter;
@@ -31,7 +32,7 @@ import org.springframework.beans.factory.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
-import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 
@@ -91,7 +92,7 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
      * @return the new test case.
      */
     protected TestCase getTestCase(TestContext context, String testName) {
-        ClassPathXmlApplicationContext ctx = createApplicationContext(context, packageName, testName);
+        ConfigurableApplicationContext ctx = createApplicationContext(context, packageName, testName);
 
         try {
             TestCase testCase = ctx.getBean(testName, TestCase.class);
@@ -107,13 +108,9 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
      * Creates the Spring application context.
      * @return
      */
-    protected ClassPathXmlApplicationContext createApplicationContext(TestContext context, String packageName, String testName) {
+    protected ConfigurableApplicationContext createApplicationContext(TestContext context, String packageName, String testName) {
         try {
-            return new ClassPathXmlApplicationContext(
-                    new String[] {
-                            packageName.replace('.', '/') + "/" + testName + ".xml",
-                            "com/consol/citrus/spring/annotation-config-ctx.xml"},
-                    true, applicationContext);
+            return XmlTestDefinitionCache.createApplicationContext(packageName.replace('.', '/') + "/" + testName + ".xml", applicationContext);
         } catch (Exception e) {
             throw context.handleError(getClass().getSimpleName(), getClass().getPackage().getName(), "Failed to load test case", e);
         }
@@ -58,10 +58,10 @@ public final class FunctionUtils {
         }
         
         String newString = stringValue;
-        StringBuffer strBuffer = new StringBuffer();
+        StringBuilder strBuffer = new StringBuilder();
 
         boolean isVarComplete = false;
-        StringBuffer variableNameBuf = new StringBuffer();
+        StringBuilder variableNameBuf = new StringBuilder();
 
         int startIndex = 0;
         int curIndex;
@@ -70,6 +70,11 @@ public final class FunctionUtils {
         for (FunctionLibrary library: context.getFunctionRegistry().getFunctionLibraries()) {
             startIndex = 0;
 
+            if (newString.indexOf(library.getPrefix()) == -1) {
+                // nothing to replace for this library so avoid copying the string
+                continue;
+            }
+
             while ((searchIndex = newString.indexOf(library.getPrefix(), startIndex)) != -1) {
                 int control = -1;
                 isVarComplete = false;
@@ -77,7 +82,7 @@ public final class FunctionUtils {
                 curIndex = searchIndex;
 
                 while (curIndex < newString.length() && !isVarComplete) {
-                    if (newString.indexOf('(', curIndex) == curIndex) {
+                    if (newString.charAt(curIndex) == '(') {
                         control++;
                     }
 
@@ -95,24 +100,24 @@ public final class FunctionUtils {
 
                 final String value = resolveFunction(variableNameBuf.toString(), context);
 
-                strBuffer.append(newString.substring(startIndex, searchIndex));
+                strBuffer.append(newString, startIndex, searchIndex);
 
                 if (enableQuoting) {
-                    strBuffer.append("'" + value + "'");
+                    strBuffer.append('\'').append(value).append('\'');
                 } else {
                     strBuffer.append(value);
                 }
 
                 startIndex = curIndex;
 
-                variableNameBuf = new StringBuffer();
+                variableNameBuf.setLength(0);
                 isVarComplete = false;
             }
 
-            strBuffer.append(newString.substring(startIndex));
+            strBuffer.append(newString, startIndex, newString.length());
             newString = strBuffer.toString();
 
-            strBuffer = new StringBuffer();
+            strBuffer.setLength(0);
         }
 
         return newString;
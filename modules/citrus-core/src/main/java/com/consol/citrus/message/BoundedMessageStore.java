@@ -0,0 +1,472 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Message store with bounded memory usage. Store keeps the most recently used messages in memory and evicts least
+ * recently used messages as soon as the maximum number of messages or the maximum number of payload bytes is exceeded.
+ * Evicted messages are either dropped or, when spill to disk is enabled, serialized to a temporary spill file and
+ * loaded again lazily when requested via {@link #getMessage(String)}. Spill file regions of reloaded or replaced messages
+ * are reclaimed by compacting the spill file as soon as they make up more than half of the file.
+ *
+ * Payload bytes are estimated for String and byte array payloads as well as header data. Other payload types are only
+ * limited by message count.
+ *
+ * As test context creates a new message store per test define this store as prototype scoped bean so each test
+ * gets its own store instance.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public class BoundedMessageStore implements ObservableMessageStore, Closeable {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(BoundedMessageStore.class);
+
+    /** Minimum number of unused spill file bytes before spill file gets compacted */
+    private static final long MIN_COMPACT_BYTES = 1024L * 1024;
+
+    /** Maximum number of messages held in memory */
+    private int maxMessages = 1000;
+
+    /** Maximum number of estimated payload bytes held in memory */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /** Should write evicted messages to spill file */
+    private boolean spillToDisk = false;
+
+    /** Messages in memory in least recently used order */
+    private final LinkedHashMap<String, StoredMessage> messages = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Positions of evicted messages in spill file */
+    private final Map<String, SpilledMessage> spilledMessages = new HashMap<>();
+
+    /** Estimated payload bytes of all messages in memory */
+    private long storedBytes;
+
+    /** Listeners informed about stored messages */
+    private final List<MessageStoreListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Spill file and channel, created on first eviction */
+    private File spillFile;
+    private FileChannel spillChannel;
+
+    /** Spill file bytes no longer referenced by any spilled message */
+    private long spillGarbage;
+
+    @Override
+    public synchronized Message getMessage(String id) {
+        StoredMessage stored = messages.get(id);
+        if (stored != null) {
+            return stored.message;
+        }
+
+        SpilledMessage spilled = spilledMessages.remove(id);
+        if (spilled == null) {
+            return null;
+        }
+
+        spillGarbage += spilled.length;
+        Message message = readSpilledMessage(spilled);
+        if (message != null) {
+            add(id, message);
+        }
+
+        return message;
+    }
+
+    @Override
+    public void storeMessage(String id, Message message) {
+        synchronized (this) {
+            SpilledMessage spilled = spilledMessages.remove(id);
+            if (spilled != null) {
+                spillGarbage += spilled.length;
+            }
+
+            add(id, message);
+        }
+
+        for (MessageStoreListener listener : listeners) {
+            listener.onMessageStored(id, message);
+        }
+    }
+
+    @Override
+    public void addListener(MessageStoreListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(MessageStoreListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public String constructMessageName(TestAction action, Endpoint endpoint) {
+        return action.getName() + "(" + endpoint.getName() + ")";
+    }
+
+    /**
+     * Adds message to memory and evicts least recently used messages when store limits are exceeded. Most recently
+     * added message is never evicted.
+     * @param id
+     * @param message
+     */
+    private void add(String id, Message message) {
+        StoredMessage stored = new StoredMessage(message, estimateSize(message));
+        StoredMessage previous = messages.put(id, stored);
+        if (previous != null) {
+            storedBytes -= previous.size;
+        }
+        storedBytes += stored.size;
+
+        Iterator<Map.Entry<String, StoredMessage>> eldest = messages.entrySet().iterator();
+        while (messages.size() > 1 && (messages.size() > maxMessages || storedBytes > maxBytes)) {
+            Map.Entry<String, StoredMessage> entry = eldest.next();
+            eldest.remove();
+            storedBytes -= entry.getValue().size;
+
+            if (spillToDisk) {
+                spill(entry.getKey(), entry.getValue().message);
+            } else if (log.isDebugEnabled()) {
+                log.debug(String.format("Evicted message '%s' from message store", entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Writes message to spill file. Messages that can not be serialized are dropped.
+     * @param id
+     * @param message
+     */
+    private void spill(String id, Message message) {
+        try {
+            byte[] data = serialize(message);
+
+            FileChannel channel = getSpillChannel();
+            if (spillGarbage > MIN_COMPACT_BYTES && spillGarbage > channel.size() / 2) {
+                channel = compactSpillFile();
+            }
+
+            long position = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+
+            spilledMessages.put(id, new SpilledMessage(position, data.length));
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Spilled message '%s' to file: %s", id, spillFile.getAbsolutePath()));
+            }
+        } catch (IOException e) {
+            log.warn(String.format("Failed to spill message '%s' - message is removed from message store", id), e);
+        }
+    }
+
+    /**
+     * Copies all spilled messages to a new spill file dropping unused regions and replaces the current spill file.
+     * @return the new spill file channel
+     * @throws IOException
+     */
+    private FileChannel compactSpillFile() throws IOException {
+        File compactFile = File.createTempFile("citrus-message-store", ".spill");
+        compactFile.deleteOnExit();
+        FileChannel compactChannel = new RandomAccessFile(compactFile, "rw").getChannel();
+
+        Map<String, SpilledMessage> compacted = new HashMap<>();
+        try {
+            long position = 0L;
+            for (Map.Entry<String, SpilledMessage> entry : spilledMessages.entrySet()) {
+                SpilledMessage spilled = entry.getValue();
+
+                long transferred = 0L;
+                while (transferred < spilled.length) {
+                    transferred += spillChannel.transferTo(spilled.position + transferred, spilled.length - transferred, compactChannel);
+                }
+
+                compacted.put(entry.getKey(), new SpilledMessage(position, spilled.length));
+                position += spilled.length;
+            }
+        } catch (IOException e) {
+            compactChannel.close();
+            if (!compactFile.delete()) {
+                log.warn("Failed to delete message store spill file: " + compactFile.getAbsolutePath());
+            }
+            throw e;
+        }
+
+        spillChannel.close();
+        if (!spillFile.delete()) {
+            log.warn("Failed to delete message store spill file: " + spillFile.getAbsolutePath());
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Compacted message store spill file - reclaimed %s bytes", spillGarbage));
+        }
+
+        spilledMessages.putAll(compacted);
+        spillFile = compactFile;
+        spillChannel = compactChannel;
+        spillGarbage = 0L;
+
+        return spillChannel;
+    }
+
+    /**
+     * Reads message from spill file.
+     * @param spilled
+     * @return
+     */
+    private Message readSpilledMessage(SpilledMessage spilled) {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(spilled.length);
+            while (buffer.hasRemaining()) {
+                if (spillChannel.read(buffer, spilled.position + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of message store spill file");
+                }
+            }
+
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.array()))) {
+                return (Message) in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CitrusRuntimeException("Failed to read message from message store spill file", e);
+        }
+    }
+
+    /**
+     * Serializes message. Payload types that are not serializable are converted to String payload first.
+     * @param message
+     * @return
+     * @throws IOException
+     */
+    private byte[] serialize(Message message) throws IOException {
+        try {
+            return writeObject(message);
+        } catch (NotSerializableException e) {
+            DefaultMessage copy = new DefaultMessage(message);
+            copy.setPayload(message.getPayload(String.class));
+            return writeObject(copy);
+        }
+    }
+
+    /**
+     * Writes message to byte array using Java serialization.
+     * @param message
+     * @return
+     * @throws IOException
+     */
+    private byte[] writeObject(Message message) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(message);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Gets the spill file channel and creates temporary spill file if necessary.
+     * @return
+     * @throws IOException
+     */
+    private FileChannel getSpillChannel() throws IOException {
+        if (spillChannel == null) {
+            spillFile = File.createTempFile("citrus-message-store", ".spill");
+            spillFile.deleteOnExit();
+            spillChannel = new RandomAccessFile(spillFile, "rw").getChannel();
+        }
+
+        return spillChannel;
+    }
+
+    /**
+     * Estimates the payload bytes of given message.
+     * @param message
+     * @return
+     */
+    private static long estimateSize(Message message) {
+        long size = 0L;
+
+        Object payload = message.getPayload();
+        if (payload instanceof String) {
+            size += ((String) payload).length() * 2L;
+        } else if (payload instanceof byte[]) {
+            size += ((byte[]) payload).length;
+        }
+
+        for (String headerData : message.getHeaderData()) {
+            size += headerData.length() * 2L;
+        }
+
+        return size;
+    }
+
+    /**
+     * Closes and deletes the spill file. All spilled messages are removed from the store, messages in
+     * memory are still available.
+     */
+    @Override
+    public synchronized void close() {
+        spilledMessages.clear();
+        spillGarbage = 0L;
+
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close message store spill file", e);
+            }
+
+            if (!spillFile.delete()) {
+                log.warn("Failed to delete message store spill file: " + spillFile.getAbsolutePath());
+            }
+
+            spillChannel = null;
+            spillFile = null;
+        }
+    }
+
+    /**
+     * Gets the number of messages in memory.
+     * @return
+     */
+    public synchronized int getMessageCount() {
+        return messages.size();
+    }
+
+    /**
+     * Gets the number of messages in spill file.
+     * @return
+     */
+    public synchronized int getSpilledMessageCount() {
+        return spilledMessages.size();
+    }
+
+    /**
+     * Gets the size of the spill file in bytes.
+     * @return
+     */
+    public synchronized long getSpillFileSize() {
+        try {
+            return spillChannel != null ? spillChannel.size() : 0L;
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read message store spill file size", e);
+        }
+    }
+
+    /**
+     * Gets the estimated payload bytes of all messages in memory.
+     * @return
+     */
+    public synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    /**
+     * Gets the maxMessages.
+     *
+     * @return
+     */
+    public int getMaxMessages() {
+        return maxMessages;
+    }
+
+    /**
+     * Sets the maxMessages.
+     *
+     * @param maxMessages
+     */
+    public void setMaxMessages(int maxMessages) {
+        this.maxMessages = maxMessages;
+    }
+
+    /**
+     * Gets the maxBytes.
+     *
+     * @return
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maxBytes.
+     *
+     * @param maxBytes
+     */
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the spillToDisk.
+     *
+     * @return
+     */
+    public boolean isSpillToDisk() {
+        return spillToDisk;
+    }
+
+    /**
+     * Sets the spillToDisk.
+     *
+     * @param spillToDisk
+     */
+    public void setSpillToDisk(boolean spillToDisk) {
+        this.spillToDisk = spillToDisk;
+    }
+
+    /**
+     * Message in memory with estimated payload size.
+     */
+    private static final class StoredMessage {
+        private final Message message;
+        private final long size;
+
+        StoredMessage(Message message, long size) {
+            this.message = message;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Position and length of serialized message in spill file.
+     */
+    private static final class SpilledMessage {
+        private final long position;
+        private final int length;
+
+        SpilledMessage(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
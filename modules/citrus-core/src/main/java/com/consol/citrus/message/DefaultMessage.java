@@ -46,6 +46,12 @@ public class DefaultMessage implements Message {
     /** The message name for internal use */
     private String name;
 
+    /** Cached parsed representations of the current payload */
+    private transient Map<String, Object> parsedPayloads;
+
+    /** Payload object that cached parsed representations belong to */
+    private transient Object parsedPayloadSource;
+
     /**
      * Empty constructor initializing with empty message payload.
      */
@@ -159,6 +165,43 @@ public class DefaultMessage implements Message {
     @Override
     public void setPayload(Object payload) {
         this.payload = payload;
+        clearParsedPayloads();
+    }
+
+    /**
+     * Gets cached parsed representation of current payload. Returns null when
+     * representation is not cached or payload has changed in the meantime.
+     * @param representation
+     * @return
+     */
+    synchronized Object getParsedPayload(String representation) {
+        if (parsedPayloads == null || parsedPayloadSource != payload) {
+            return null;
+        }
+
+        return parsedPayloads.get(representation);
+    }
+
+    /**
+     * Caches parsed representation of current payload.
+     * @param representation
+     * @param parsed
+     */
+    synchronized void setParsedPayload(String representation, Object parsed) {
+        if (parsedPayloads == null || parsedPayloadSource != payload) {
+            parsedPayloads = new HashMap<>();
+            parsedPayloadSource = payload;
+        }
+
+        parsedPayloads.put(representation, parsed);
+    }
+
+    /**
+     * Removes all cached parsed representations of the payload.
+     */
+    synchronized void clearParsedPayloads() {
+        parsedPayloads = null;
+        parsedPayloadSource = null;
     }
 
     @Override
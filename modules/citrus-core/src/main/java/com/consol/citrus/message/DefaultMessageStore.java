@@ -19,13 +19,18 @@ package com.consol.citrus.message;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.endpoint.Endpoint;
 
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @author Christoph Deppisch
  * @since 2.6.2
  */
-public class DefaultMessageStore extends ConcurrentHashMap<String, Message> implements MessageStore {
+public class DefaultMessageStore extends ConcurrentHashMap<String, Message> implements ObservableMessageStore {
+
+    /** Listeners informed about stored messages */
+    private final transient List<MessageStoreListener> listeners = new CopyOnWriteArrayList<>();
 
     @Override
     public Message getMessage(String id) {
@@ -35,6 +40,20 @@ public class DefaultMessageStore extends ConcurrentHashMap<String, Message> impl
     @Override
     public void storeMessage(String id, Message message) {
         super.put(id, message);
+
+        for (MessageStoreListener listener : listeners) {
+            listener.onMessageStored(id, message);
+        }
+    }
+
+    @Override
+    public void addListener(MessageStoreListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(MessageStoreListener listener) {
+        listeners.remove(listener);
     }
 
     @Override
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+/**
+ * Access to parsed payload representations (DOM document, JSON object, namespace bindings) attached to a message.
+ * Validators and variable extractors working on the same received message share the parsed representation instead of
+ * parsing the payload over and over again. Cached representations get invalidated as soon as the message payload changes.
+ *
+ * Only messages of type {@link DefaultMessage} support caching, for all other message implementations this cache
+ * always misses. Cached representations are shared so clients must not modify them.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public final class ParsedPayloadCache {
+
+    /** Parsed DOM document representation */
+    public static final String XML_DOCUMENT = "xml-document";
+
+    /** Namespace bindings of XML root element */
+    public static final String XML_NAMESPACES = "xml-namespaces";
+
+    /** Parsed JSON object or array representation */
+    public static final String JSON = "json";
+
+    /**
+     * Prevent instantiation.
+     */
+    private ParsedPayloadCache() {
+    }
+
+    /**
+     * Gets cached parsed payload representation from message. Returns null when representation is not available.
+     * @param message
+     * @param representation
+     * @param type
+     * @param <T>
+     * @return
+     */
+    public static <T> T get(Message message, String representation, Class<T> type) {
+        if (message instanceof DefaultMessage) {
+            Object parsed = ((DefaultMessage) message).getParsedPayload(representation);
+            if (type.isInstance(parsed)) {
+                return type.cast(parsed);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds parsed payload representation to message cache.
+     * @param message
+     * @param representation
+     * @param parsed
+     */
+    public static void put(Message message, String representation, Object parsed) {
+        if (message instanceof DefaultMessage && parsed != null) {
+            ((DefaultMessage) message).setParsedPayload(representation, parsed);
+        }
+    }
+
+    /**
+     * Removes all cached payload representations from message.
+     * @param message
+     */
+    public static void clear(Message message) {
+        if (message instanceof DefaultMessage) {
+            ((DefaultMessage) message).clearParsedPayloads();
+        }
+    }
+}
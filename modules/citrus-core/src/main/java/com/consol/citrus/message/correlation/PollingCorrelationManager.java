@@ -22,11 +22,19 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Extension of default correlation manager adds polling mechanism for find operation on object store.
  * In case object is not found in store retry is automatically performed. Polling interval and overall retry timeout
  * is usually defined in endpoint configuration.
  *
+ * Waiting clients are parked on a monitor per correlation key and get notified as soon as an object is stored
+ * or a correlation key is saved. Polling interval is used as maximum wait time between two retries so objects
+ * added directly to the object store are still found.
+ *
  * @author Christoph Deppisch
  * @since 2.1
  */
@@ -36,6 +44,12 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
 
     private final PollableEndpointConfiguration endpointConfiguration;
 
+    /** Monitors of clients currently waiting for correlated objects */
+    private final Map<String, Monitor> objectMonitors = new ConcurrentHashMap<>();
+
+    /** Monitors of clients currently waiting for correlation keys */
+    private final Map<String, Monitor> keyMonitors = new ConcurrentHashMap<>();
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(PollingCorrelationManager.class);
 
@@ -61,35 +75,44 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return find(correlationKey, endpointConfiguration.getTimeout());
     }
 
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+        notifyWaiting(keyMonitors, correlationKeyName);
+    }
+
     @Override
     public String getCorrelationKey(String correlationKeyName, TestContext context) {
         if (log.isDebugEnabled()) {
             log.debug(String.format("Get correlation key for '%s'", correlationKeyName));
         }
 
-        String correlationKey = null;
-        if (context.getVariables().containsKey(correlationKeyName)) {
-            correlationKey = context.getVariable(correlationKeyName);
+        String correlationKey = lookupCorrelationKey(correlationKeyName, context);
+        if (correlationKey != null) {
+            return correlationKey;
         }
 
-        long timeLeft = 1000L;
         long pollingInterval = 300L;
-        while (correlationKey == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1000L);
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("Correlation key not available yet - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
-            }
+        Monitor monitor = acquireMonitor(keyMonitors, correlationKeyName);
+        try {
+            synchronized (monitor) {
+                correlationKey = lookupCorrelationKey(correlationKeyName, context);
+                long timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                while (correlationKey == null && timeLeft > 0) {
+                    if (RETRY_LOG.isDebugEnabled()) {
+                        RETRY_LOG.debug("Correlation key not available yet - retrying on key creation or in " + Math.min(pollingInterval, timeLeft) + "ms");
+                    }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
-            }
+                    waitFor(monitor, Math.min(pollingInterval, timeLeft));
 
-            if (context.getVariables().containsKey(correlationKeyName)) {
-                correlationKey = context.getVariable(correlationKeyName);
+                    correlationKey = lookupCorrelationKey(correlationKeyName, context);
+                    timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                }
             }
+        } finally {
+            releaseMonitor(keyMonitors, correlationKeyName);
         }
 
         if (correlationKey == null) {
@@ -99,30 +122,121 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return correlationKey;
     }
 
+    @Override
+    public void store(String correlationKey, T object) {
+        super.store(correlationKey, object);
+        notifyWaiting(objectMonitors, correlationKey);
+    }
+
     @Override
     public T find(String correlationKey, long timeout) {
-        long timeLeft = timeout;
+        T stored = super.find(correlationKey, timeout);
+        if (stored != null || timeout <= 0) {
+            return stored;
+        }
+
         long pollingInterval = endpointConfiguration.getPollingInterval();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
 
-        T stored = super.find(correlationKey, timeLeft);
+        Monitor monitor = acquireMonitor(objectMonitors, correlationKey);
+        try {
+            synchronized (monitor) {
+                long timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                stored = super.find(correlationKey, timeLeft);
+                while (stored == null && timeLeft > 0) {
+                    if (RETRY_LOG.isDebugEnabled()) {
+                        RETRY_LOG.debug(retryLogMessage + " - retrying on object arrival or in " + Math.min(pollingInterval, timeLeft) + "ms");
+                    }
 
-        while (stored == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+                    waitFor(monitor, Math.min(pollingInterval, timeLeft));
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug(retryLogMessage + " - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                    timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    stored = super.find(correlationKey, timeLeft);
+                }
             }
+        } finally {
+            releaseMonitor(objectMonitors, correlationKey);
+        }
+
+        return stored;
+    }
+
+    /**
+     * Reads correlation key from test context variables if present.
+     * @param correlationKeyName
+     * @param context
+     * @return
+     */
+    private String lookupCorrelationKey(String correlationKeyName, TestContext context) {
+        if (context.getVariables().containsKey(correlationKeyName)) {
+            return context.getVariable(correlationKeyName);
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets or creates monitor for given key that waiting clients are parked on and registers the calling client
+     * as waiter.
+     * @param monitors
+     * @param key
+     * @return
+     */
+    private Monitor acquireMonitor(Map<String, Monitor> monitors, String key) {
+        return monitors.compute(key, (k, monitor) -> {
+            Monitor result = monitor != null ? monitor : new Monitor();
+            result.waiters++;
+            return result;
+        });
+    }
+
+    /**
+     * Unregisters the calling client as waiter on monitor for given key. Monitor is removed as soon as the last
+     * waiting client has left so later notifications always reach all waiting clients.
+     * @param monitors
+     * @param key
+     */
+    private void releaseMonitor(Map<String, Monitor> monitors, String key) {
+        monitors.computeIfPresent(key, (k, monitor) -> --monitor.waiters > 0 ? monitor : null);
+    }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+    /**
+     * Notifies all clients waiting on the monitor for given key.
+     * @param monitors
+     * @param key
+     */
+    private void notifyWaiting(Map<String, Monitor> monitors, String key) {
+        if (key == null) {
+            return;
+        }
+
+        Monitor monitor = monitors.get(key);
+        if (monitor != null) {
+            synchronized (monitor) {
+                monitor.notifyAll();
             }
+        }
+    }
 
-            stored = super.find(correlationKey, timeLeft);
+    /**
+     * Waits on given monitor for notification or given wait time to pass. Caller must own the monitor.
+     * @param monitor
+     * @param waitTime
+     */
+    private void waitFor(Monitor monitor, long waitTime) {
+        try {
+            monitor.wait(waitTime);
+        } catch (InterruptedException e) {
+            RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
         }
+    }
 
-        return stored;
+    /**
+     * Monitor waiting clients are parked on. Counts the clients currently waiting, count is only modified
+     * by atomic map operations on the monitor key.
+     */
+    private static final class Monitor {
+        private int waiters;
     }
 
     /**
@@ -16,11 +16,13 @@
 
 package com.consol.citrus.report;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.RawMessage;
+import com.consol.citrus.util.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -28,17 +30,25 @@ import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 
 import java.io.*;
+import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Test listener collects all messages sent and received by Citrus during test execution. Listener
  * writes a trace file with all message content per test case to a output directory.
- * 
- * Note: This class is not thread safe! Parallel test execution leads to behaviour that messages get mixed.
- * Proper correlation to test case is not possible here.
+ *
+ * Each test case gets its own trace writer that appends messages to the trace file asynchronously as they
+ * flow. Messages are buffered in a bounded queue so memory consumption does not grow with the number of messages.
+ * Messages are correlated to test case instances via test context. Concurrent invocations of the same test get
+ * separate trace files. Messages without test context are added to the trace of the test case that has been started
+ * most recently.
  * 
  * @author Christoph Deppisch
  * @since 1.2
@@ -48,17 +58,35 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     /** File ending for all message trace files */
     private static final String TRACE_FILE_ENDING = ".msgs";
 
+    /** File ending for compressed message trace files */
+    private static final String COMPRESSED_FILE_ENDING = ".gz";
+
     /** File ending for all message trace files */
     private static final Date TEST_EXECUTION_DATE = new Date();
 
+    /** Counts created trace writers in order to find the most recently started test */
+    private static final AtomicLong TRACE_WRITER_COUNT = new AtomicLong();
+
     /** Output directory */
     private Resource outputDirectory = new FileSystemResource("logs/trace/messages/");
-    
-    /** List of messages to trace */
-    private final List<String> messages = new ArrayList<>();
-    
-    /** Locking object for synchronization */
-    private final Object lockObject = new Object();
+
+    /** Maximum number of buffered messages per test before message listeners block */
+    private int bufferSize = 100;
+
+    /** Should compress trace files */
+    private boolean compress = false;
+
+    /** Trace writers of running tests by test case instance */
+    private final Map<TestCase, TraceWriter> traceWriters = Collections.synchronizedMap(new IdentityHashMap<TestCase, TraceWriter>());
+
+    /** Trace writers bound to test contexts of running tests */
+    private final Map<TestContext, TraceWriter> contextTraceWriters = Collections.synchronizedMap(new WeakHashMap<TestContext, TraceWriter>());
+
+    /** Trace writer of test started on current thread */
+    private final ThreadLocal<TraceWriter> threadTraceWriter = new ThreadLocal<>();
+
+    /** Trace writer of test started most recently */
+    private volatile TraceWriter currentTraceWriter;
 
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(MessageTracingTestListener.class);
@@ -68,9 +96,14 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestStart(TestCase test) {
-        synchronized (lockObject) {
-            messages.clear();
+        TraceWriter traceWriter;
+        synchronized (traceWriters) {
+            traceWriter = new TraceWriter(test.getName(), getUniqueTraceFile(test.getName()));
+            traceWriters.put(test, traceWriter);
         }
+
+        threadTraceWriter.set(traceWriter);
+        currentTraceWriter = traceWriter;
     }
     
     /**
@@ -78,21 +111,26 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestFinish(TestCase test) {
-        if (messages.isEmpty()) {
-            return; // do not write empty message trace file
+        TraceWriter traceWriter = traceWriters.remove(test);
+
+        if (traceWriter == null) {
+            return;
         }
 
-        try(BufferedWriter writer = new BufferedWriter(new FileWriter(getTraceFile(test.getName())))) {
-            writer.write(separator() + newLine() + newLine());
-            
-            synchronized (lockObject) {
-                for (String message : messages) {
-                    writer.write(message);
-                    writer.write(newLine() + separator() + newLine() + newLine());
-                }
-            }
-            
-            writer.flush();
+        if (currentTraceWriter == traceWriter) {
+            currentTraceWriter = null;
+        }
+
+        if (threadTraceWriter.get() == traceWriter) {
+            threadTraceWriter.remove();
+        }
+
+        synchronized (contextTraceWriters) {
+            contextTraceWriters.values().removeIf(writer -> writer == traceWriter);
+        }
+
+        try {
+            traceWriter.close();
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to write message trace to filesystem", e);
         }
@@ -101,19 +139,98 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     @Override
     public void onInboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("INBOUND_MESSAGE:" + newLine() + newLine() + message);
-            }
+            trace("INBOUND_MESSAGE:" + newLine() + newLine() + message, context);
         }
     }
 
     @Override
     public void onOutboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("OUTBOUND_MESSAGE:" + newLine() + newLine() + message);
+            trace("OUTBOUND_MESSAGE:" + newLine() + newLine() + message, context);
+        }
+    }
+
+    /**
+     * Adds message trace entry to the trace writer of the test case related to given test context.
+     * @param entry
+     * @param context
+     */
+    private void trace(String entry, TestContext context) {
+        TraceWriter traceWriter = null;
+        if (context != null) {
+            traceWriter = getTraceWriter(context);
+        }
+
+        if (traceWriter == null) {
+            traceWriter = currentTraceWriter;
+        }
+
+        if (traceWriter != null) {
+            traceWriter.append(entry);
+        }
+    }
+
+    /**
+     * Gets trace writer of test case using given test context. Context is bound to the trace writer of the running test
+     * with the same test name. When several invocations of that test are running the test started on current thread
+     * is preferred, otherwise the invocation started most recently.
+     * @param context
+     * @return
+     */
+    private TraceWriter getTraceWriter(TestContext context) {
+        TraceWriter traceWriter = contextTraceWriters.get(context);
+        if (traceWriter != null || !context.getVariables().containsKey(Citrus.TEST_NAME_VARIABLE)) {
+            return traceWriter;
+        }
+
+        String testName = context.getVariables().get(Citrus.TEST_NAME_VARIABLE).toString();
+        TraceWriter threadWriter = threadTraceWriter.get();
+        int candidates = 0;
+        synchronized (traceWriters) {
+            for (TraceWriter writer : traceWriters.values()) {
+                if (writer.testName.equals(testName)) {
+                    candidates++;
+                    if (traceWriter == null || writer == threadWriter || (traceWriter != threadWriter && writer.id > traceWriter.id)) {
+                        traceWriter = writer;
+                    }
+                }
+            }
+        }
+
+        if (traceWriter != null && (candidates == 1 || traceWriter == threadWriter)) {
+            contextTraceWriters.put(context, traceWriter);
+        }
+
+        return traceWriter;
+    }
+
+    /**
+     * Gets trace file for test that is not used by another running invocation of the same test.
+     * @param testName
+     * @return
+     */
+    private File getUniqueTraceFile(String testName) {
+        File traceFile = getTraceFile(testName);
+        for (int invocation = 2; isTraceFileInUse(traceFile); invocation++) {
+            traceFile = getTraceFile(testName + "_" + invocation);
+        }
+
+        return traceFile;
+    }
+
+    /**
+     * Checks if trace file is used by trace writer of a running test.
+     * @param traceFile
+     * @return
+     */
+    private boolean isTraceFileInUse(File traceFile) {
+        for (TraceWriter writer : traceWriters.values()) {
+            if (writer.traceFile.equals(traceFile)) {
+                return true;
             }
         }
+
+        return false;
     }
 
     /**
@@ -153,6 +270,37 @@ public class MessageTracingTestListener extends AbstractTestListener implements
         this.outputDirectory = outputDirectory;
     }
 
+    /**
+     * Sets the maximum number of buffered messages per test.
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the maximum number of buffered messages per test.
+     * @return
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Enables/disables trace file compression.
+     * @param compress
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * Is trace file compression enabled.
+     * @return
+     */
+    public boolean isCompress() {
+        return compress;
+    }
 
     /**
      * Returns the trace file for message tracing. The file name should be unique per test execution run; the test name
@@ -164,7 +312,7 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     protected File getTraceFile(String testName) {
         String testExecutionStartTime = new SimpleDateFormat("yyyyMMdd_HHmmss").format(TEST_EXECUTION_DATE);
-        String filename = String.format("%s_%s%s", testName, testExecutionStartTime, TRACE_FILE_ENDING);
+        String filename = String.format("%s_%s%s%s", testName, testExecutionStartTime, TRACE_FILE_ENDING, compress ? COMPRESSED_FILE_ENDING : "");
         try {
             Resource traceResource = outputDirectory.createRelative(filename);
             if(traceResource.exists()) {
@@ -176,4 +324,145 @@ public class MessageTracingTestListener extends AbstractTestListener implements
             throw new CitrusRuntimeException("Error creating trace file", e);
         }
     }
+
+    /**
+     * Append only trace writer for a single test case. Messages are buffered in a bounded queue and written to the
+     * trace file on the shared Citrus worker executor. Trace file is created with the first message so tests without messages
+     * do not produce empty trace files.
+     */
+    private final class TraceWriter implements Runnable {
+        private final long id = TRACE_WRITER_COUNT.incrementAndGet();
+        private final String testName;
+        private final File traceFile;
+        private final BlockingQueue<String> buffer = new LinkedBlockingQueue<>(Math.max(1, bufferSize));
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /** Appends share the read lock, close takes the write lock so no entry is added after close */
+        private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+        private Writer writer;
+        private IOException error;
+        private boolean closed = false;
+
+        TraceWriter(String testName, File traceFile) {
+            this.testName = testName;
+            this.traceFile = traceFile;
+        }
+
+        /**
+         * Adds trace entry to buffer. Blocks when buffer is full until entries have been written. Entries
+         * added after the trace writer has been closed are rejected.
+         * @param entry
+         */
+        void append(String entry) {
+            closeLock.readLock().lock();
+            try {
+                if (closed) {
+                    LOG.warn(String.format("Message trace of test '%s' already closed - ignoring message", testName));
+                    return;
+                }
+
+                buffer.put(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.warn("Interrupted while adding message to trace buffer");
+                return;
+            } finally {
+                closeLock.readLock().unlock();
+            }
+
+            if (scheduled.compareAndSet(false, true)) {
+                ThreadUtils.getWorkerExecutor().execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                drain();
+            } finally {
+                scheduled.set(false);
+            }
+
+            if (!buffer.isEmpty() && scheduled.compareAndSet(false, true)) {
+                ThreadUtils.getWorkerExecutor().execute(this);
+            }
+        }
+
+        /**
+         * Writes all buffered entries to trace file.
+         */
+        private synchronized void drain() {
+            String entry;
+            while ((entry = buffer.poll()) != null) {
+                if (error != null) {
+                    continue;
+                }
+
+                try {
+                    if (writer == null) {
+                        open();
+                    }
+
+                    writer.write(entry);
+                    writer.write(newLine() + separator() + newLine() + newLine());
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+
+            if (writer != null && error == null) {
+                try {
+                    writer.flush();
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+        }
+
+        /**
+         * Opens trace file and writes header.
+         * @throws IOException
+         */
+        private void open() throws IOException {
+            OutputStream out = new FileOutputStream(traceFile);
+            if (compress) {
+                out = new GZIPOutputStream(out);
+            }
+
+            writer = new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()));
+            writer.write(separator() + newLine() + newLine());
+        }
+
+        /**
+         * Rejects further entries, writes remaining entries and closes trace file.
+         * @throws IOException
+         */
+        void close() throws IOException {
+            closeLock.writeLock().lock();
+            try {
+                closed = true;
+            } finally {
+                closeLock.writeLock().unlock();
+            }
+
+            closeWriter();
+        }
+
+        /**
+         * Writes remaining entries and closes trace file.
+         * @throws IOException
+         */
+        private synchronized void closeWriter() throws IOException {
+            drain();
+
+            if (writer != null) {
+                writer.close();
+            }
+
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
 }
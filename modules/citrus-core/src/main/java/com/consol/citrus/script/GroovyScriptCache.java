@@ -0,0 +1,180 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyObject;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of compiled Groovy script classes shared among all script actions, validators and message builders. Scripts
+ * are compiled with a single Groovy class loader and cached by their script hash so the same script code is compiled only
+ * once. Cache keeps track of compile and execution time for statistics reasons.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public final class GroovyScriptCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(GroovyScriptCache.class);
+
+    /** Maximum number of cached script classes */
+    private static final int MAX_CACHE_SIZE = 256;
+
+    /** Compiled script classes by script hash */
+    private static final Map<String, Class<?>> classCache = new ConcurrentHashMap<>();
+
+    /** Shared class loader compiling all scripts */
+    private static final GroovyClassLoader classLoader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
+        public GroovyClassLoader run() {
+            return new GroovyClassLoader(GroovyScriptCache.class.getClassLoader());
+        }
+    });
+
+    /** Statistics */
+    private static final AtomicLong compileCount = new AtomicLong();
+    private static final AtomicLong compileTime = new AtomicLong();
+    private static final AtomicLong cacheHits = new AtomicLong();
+    private static final AtomicLong executionCount = new AtomicLong();
+    private static final AtomicLong executionTime = new AtomicLong();
+
+    /**
+     * Prevent instantiation.
+     */
+    private GroovyScriptCache() {
+    }
+
+    /**
+     * Gets compiled class for given script code. Compiles script and adds class to the cache if not already cached.
+     * @param code
+     * @return
+     * @throws CompilationFailedException
+     */
+    public static Class<?> getScriptClass(String code) throws CompilationFailedException {
+        String key = DigestUtils.md5DigestAsHex(code.getBytes(StandardCharsets.UTF_8)) + code.length();
+        Class<?> groovyClass = classCache.get(key);
+
+        if (groovyClass != null) {
+            cacheHits.incrementAndGet();
+            return groovyClass;
+        }
+
+        long start = System.nanoTime();
+        groovyClass = classLoader.parseClass(code);
+        long elapsed = System.nanoTime() - start;
+
+        compileCount.incrementAndGet();
+        compileTime.addAndGet(elapsed);
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Compiled Groovy script in %s ms", TimeUnit.NANOSECONDS.toMillis(elapsed)));
+        }
+
+        if (groovyClass == null) {
+            throw new CitrusRuntimeException("Failed to load groovy script");
+        }
+
+        if (classCache.size() >= MAX_CACHE_SIZE) {
+            classCache.clear();
+            classLoader.clearCache();
+        }
+        classCache.put(key, groovyClass);
+
+        return groovyClass;
+    }
+
+    /**
+     * Creates new Groovy object instance of compiled script class for given script code.
+     * @param code
+     * @return
+     */
+    public static GroovyObject newInstance(String code) {
+        try {
+            return (GroovyObject) getScriptClass(code).newInstance();
+        } catch (CompilationFailedException | InstantiationException | IllegalAccessException e) {
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Adds script execution time to statistics.
+     * @param startNanos start time of execution as provided by {@link System#nanoTime()}.
+     */
+    public static void recordExecution(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+
+        executionCount.incrementAndGet();
+        executionTime.addAndGet(elapsed);
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Executed Groovy script in %s ms", TimeUnit.NANOSECONDS.toMillis(elapsed)));
+        }
+    }
+
+    /**
+     * Gets the number of script compilations.
+     * @return
+     */
+    public static long getCompileCount() {
+        return compileCount.get();
+    }
+
+    /**
+     * Gets the overall script compile time in milliseconds.
+     * @return
+     */
+    public static long getCompileTime() {
+        return TimeUnit.NANOSECONDS.toMillis(compileTime.get());
+    }
+
+    /**
+     * Gets the number of scripts served from cache.
+     * @return
+     */
+    public static long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Gets the number of script executions.
+     * @return
+     */
+    public static long getExecutionCount() {
+        return executionCount.get();
+    }
+
+    /**
+     * Gets the overall script execution time in milliseconds.
+     * @return
+     */
+    public static long getExecutionTime() {
+        return TimeUnit.NANOSECONDS.toMillis(executionTime.get());
+    }
+}
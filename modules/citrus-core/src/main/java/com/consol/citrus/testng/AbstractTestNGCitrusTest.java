@@ -21,6 +21,7 @@ import com.consol.citrus.TestCase;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.annotations.CitrusXmlTest;
 import com.consol.citrus.common.TestLoader;
+import com.consol.citrus.common.XmlTestDefinitionCache;
 import com.consol.citrus.common.XmlTestLoader;
 import com.consol.citrus.config.CitrusSpringConfig;
 import com.consol.citrus.context.TestContext;
@@ -265,6 +266,38 @@ public abstract class AbstractTestNGCitrusTest extends AbstractTestNGSpringConte
 
         citrus = Citrus.newInstance(applicationContext);
         citrus.beforeSuite(testContext.getSuite().getName(), testContext.getIncludedGroups());
+
+        preloadXmlTests(testContext);
+    }
+
+    /**
+     * Parses all XML test files referenced by @CitrusXmlTest annotated test methods in parallel before
+     * test suite starts so individual test runs do not have to parse XML test definitions.
+     * @param testContext the test context.
+     */
+    private void preloadXmlTests(ITestContext testContext) {
+        Set<String> contextFiles = new LinkedHashSet<>();
+
+        try {
+            for (ITestNGMethod testNGMethod : testContext.getAllTestMethods()) {
+                Method method = testNGMethod.getConstructorOrMethod().getMethod();
+                if (method == null || method.getAnnotation(CitrusXmlTest.class) == null) {
+                    continue;
+                }
+
+                for (TestLoader testLoader : createTestLoadersForMethod(method)) {
+                    if (testLoader instanceof XmlTestLoader) {
+                        contextFiles.add(((XmlTestLoader) testLoader).getContextFile());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Failed to collect XML test files for preloading", e);
+        }
+
+        if (!contextFiles.isEmpty()) {
+            XmlTestDefinitionCache.preload(contextFiles, applicationContext);
+        }
     }
 
     /**
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.ParsedPayloadCache;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+
+/**
+ * Utility class for parsing JSON message payloads.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public final class JsonUtils {
+
+    /**
+     * Prevent instantiation.
+     */
+    private JsonUtils() {
+    }
+
+    /**
+     * Parse message payload to JSON object or array representation. Parsed representation is cached with the message
+     * so validators and variable extractors share the same object as long as the payload is not changed.
+     * Returned object is shared and must not be modified.
+     * @param message
+     * @return
+     * @throws ParseException
+     */
+    public static Object parseMessagePayload(Message message) throws ParseException {
+        Object json = ParsedPayloadCache.get(message, ParsedPayloadCache.JSON, Object.class);
+
+        if (json == null) {
+            json = new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(message.getPayload(String.class));
+            ParsedPayloadCache.put(message, ParsedPayloadCache.JSON, json);
+        }
+
+        return json;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.*;
+
+/**
+ * Thread utilities providing daemon thread factories and the shared scheduler and worker pools used by Citrus
+ * test actions, endpoints and listeners for background work. Daemon threads never prevent the JVM from exiting
+ * after test execution.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public abstract class ThreadUtils {
+
+    /** Scheduler triggering timed work such as timer events and condition checks */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("citrus-scheduler-"));
+
+    /** Worker pool running short lived background tasks */
+    private static final ExecutorService WORKER_EXECUTOR = Executors.newCachedThreadPool(daemonThreadFactory("citrus-worker-"));
+
+    /**
+     * Prevent instantiation.
+     */
+    private ThreadUtils() {
+        super();
+    }
+
+    /**
+     * Creates thread factory for daemon threads with given thread name prefix.
+     * @param threadNamePrefix
+     * @return
+     */
+    public static ThreadFactory daemonThreadFactory(String threadNamePrefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * Gets the shared scheduler. Scheduled tasks should only trigger work on other executors as all
+     * scheduled tasks share a single thread.
+     * @return
+     */
+    public static ScheduledExecutorService getScheduler() {
+        return SCHEDULER;
+    }
+
+    /**
+     * Gets the shared worker executor service.
+     * @return
+     */
+    public static ExecutorService getWorkerExecutor() {
+        return WORKER_EXECUTOR;
+    }
+}
@@ -18,6 +18,8 @@ package com.consol.citrus.util;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.ParsedPayloadCache;
 import com.consol.citrus.xml.XmlConfigurer;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.*;
@@ -211,7 +213,7 @@ public final class XMLUtils {
      * @return serialized XML string
      */
     public static String serialize(Document doc) {
-        LSSerializer serializer = configurer.createLSSerializer();
+        LSSerializer serializer = configurer.getThreadLSSerializer();
 
         LSOutput output = configurer.createLSOutput();
         String charset = getTargetCharset(doc).displayName();
@@ -336,6 +338,45 @@ public final class XMLUtils {
         return namespaces;
     }
 
+    /**
+     * Look up namespace attribute declarations in the message payload. Namespace bindings are cached
+     * with the message so subsequent lookups on the same payload do not scan the payload again.
+     * Returned map is shared and must not be modified.
+     *
+     * @param message the message holding the XML payload.
+     * @return map containing namespace prefix - namespace uri pairs.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, String> lookupNamespaces(Message message) {
+        Map<String, String> namespaces = ParsedPayloadCache.get(message, ParsedPayloadCache.XML_NAMESPACES, Map.class);
+
+        if (namespaces == null) {
+            namespaces = lookupNamespaces(message.getPayload(String.class));
+            ParsedPayloadCache.put(message, ParsedPayloadCache.XML_NAMESPACES, namespaces);
+        }
+
+        return namespaces;
+    }
+
+    /**
+     * Parse message payload with DOM implementation. Parsed document is cached with the message
+     * so validators and variable extractors share the same document as long as the payload is not changed.
+     * Returned document is shared and must not be modified.
+     * @param message
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parseMessagePayload(Message message) {
+        Document document = ParsedPayloadCache.get(message, ParsedPayloadCache.XML_DOCUMENT, Document.class);
+
+        if (document == null) {
+            document = parseMessagePayload(message.getPayload(String.class));
+            ParsedPayloadCache.put(message, ParsedPayloadCache.XML_DOCUMENT, document);
+        }
+
+        return document;
+    }
+
     /**
      * Parse message payload with DOM implementation.
      * @param messagePayload
@@ -343,7 +384,7 @@ public final class XMLUtils {
      * @return DOM document.
      */
     public static Document parseMessagePayload(String messagePayload) {
-        LSParser parser = configurer.createLSParser();
+        LSParser parser = configurer.getThreadLSParser();
         LSInput receivedInput = configurer.createLSInput();
         try {
             Charset charset = getTargetCharset(messagePayload);
@@ -356,6 +397,33 @@ public final class XMLUtils {
         return parser.parse(receivedInput);
     }
 
+    /**
+     * Parse XML content from byte array with DOM implementation. Avoids String conversion and copying of
+     * the content. The parser detects the encoding from the byte order mark and XML declaration.
+     * @param content
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parse(byte[] content) {
+        return parse(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Parse XML content from input stream with DOM implementation. Content is streamed to the parser without
+     * reading it to a String first. The parser detects the encoding from the byte order mark and XML declaration.
+     * Caller is responsible for closing the stream.
+     * @param inputStream
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parse(InputStream inputStream) {
+        LSParser parser = configurer.getThreadLSParser();
+        LSInput input = configurer.createLSInput();
+        input.setByteStream(inputStream);
+
+        return parser.parse(input);
+    }
+
     /**
      * Try to find encoding for document node. Also supports Citrus default encoding set
      * as System property.
@@ -20,11 +20,11 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.util.JsonUtils;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
 import com.jayway.jsonpath.*;
 import net.minidev.json.JSONArray;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,8 +54,7 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
 
         String jsonPathExpression = null;
         try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(receivedMessage.getPayload(String.class));
+            Object receivedJson = JsonUtils.parseMessagePayload(receivedMessage);
             ReadContext readerContext = JsonPath.parse(receivedJson);
 
             for (Map.Entry<String, Object> entry : validationContext.getJsonPathExpressions().entrySet()) {
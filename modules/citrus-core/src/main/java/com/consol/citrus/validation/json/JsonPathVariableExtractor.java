@@ -20,10 +20,10 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.UnknownElementException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.util.JsonUtils;
 import com.consol.citrus.variable.VariableExtractor;
 import com.jayway.jsonpath.*;
 import net.minidev.json.JSONArray;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,8 +58,7 @@ public class JsonPathVariableExtractor implements VariableExtractor {
 
         String jsonPathExpression = null;
         try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(message.getPayload(String.class));
+            Object receivedJson = JsonUtils.parseMessagePayload(message);
             ReadContext readerContext = JsonPath.parse(receivedJson);
 
             for (Map.Entry<String, String> entry : jsonPathExpressions.entrySet()) {
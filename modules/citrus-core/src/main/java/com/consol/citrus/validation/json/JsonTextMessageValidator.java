@@ -21,6 +21,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.util.JsonUtils;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
@@ -84,7 +85,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
         
-            Object receivedJson = parser.parse(receivedJsonText);
+            Object receivedJson = JsonUtils.parseMessagePayload(receivedMessage);
             ReadContext readContext = JsonPath.parse(receivedJson);
             Object controlJson = parser.parse(controlJsonText);
             if (receivedJson instanceof JSONObject) {
@@ -17,24 +17,20 @@
 package com.consol.citrus.validation.script;
 
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.script.GroovyScriptCache;
 import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.context.ValidationContext;
 import com.consol.citrus.validation.text.PlainTextMessageValidator;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
-import org.codehaus.groovy.control.CompilationFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.List;
 
 /**
@@ -78,26 +74,19 @@ public class GroovyScriptMessageValidator extends AbstractMessageValidator<Scrip
             if (StringUtils.hasText(validationScript)) {
                 log.debug("Start groovy message validation ...");
 
-                GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                    public GroovyClassLoader run() {
-                        return new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                    }
-                });
-                Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+                GroovyObject groovyObject = GroovyScriptCache.newInstance(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
                                                             .withCode(validationScript)
                                                             .build());
-                
-                if (groovyClass == null) {
-                    throw new CitrusRuntimeException("Failed to load groovy validation script resource");
+
+                long start = System.nanoTime();
+                try {
+                    ((GroovyScriptExecutor) groovyObject).validate(receivedMessage, context);
+                } finally {
+                    GroovyScriptCache.recordExecution(start);
                 }
                 
-                GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
-                ((GroovyScriptExecutor) groovyObject).validate(receivedMessage, context);
-                
                 log.info("Groovy message validation successful: All values OK");
             }
-        } catch (CompilationFailedException | InstantiationException | IllegalAccessException e) {
-            throw new CitrusRuntimeException(e);
         } catch (AssertionError e) {
             throw new ValidationException("Groovy script validation failed with assertion error:\n" + e.getMessage(), e);
         }
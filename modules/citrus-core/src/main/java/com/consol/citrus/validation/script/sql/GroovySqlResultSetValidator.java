@@ -17,21 +17,17 @@
 package com.consol.citrus.validation.script.sql;
 
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.script.GroovyScriptCache;
 import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.script.*;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
-import org.codehaus.groovy.control.CompilationFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.List;
 import java.util.Map;
 
@@ -76,31 +72,19 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
                 if (StringUtils.hasText(validationScript)) {
                     log.debug("Start groovy SQL result set validation");
 
-                    GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                        public GroovyClassLoader run() {
-                            return new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                        }
-                    });
-
-                    Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+                    GroovyObject groovyObject = GroovyScriptCache.newInstance(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
                                                                 .withCode(validationScript)
                                                                 .build());
-                    
-                    if (groovyClass == null) {
-                        throw new CitrusRuntimeException("Failed to load groovy validation script resource");
+
+                    long start = System.nanoTime();
+                    try {
+                        ((SqlResultSetScriptExecutor) groovyObject).validate(resultSet, context);
+                    } finally {
+                        GroovyScriptCache.recordExecution(start);
                     }
                     
-                    GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
-                    ((SqlResultSetScriptExecutor) groovyObject).validate(resultSet, context);
-                    
                     log.info("Groovy SQL result set validation successful: All values OK");
                 }
-            } catch (CompilationFailedException e) {
-                throw new CitrusRuntimeException(e);
-            } catch (InstantiationException e) {
-                throw new CitrusRuntimeException(e);
-            } catch (IllegalAccessException e) {
-                throw new CitrusRuntimeException(e);
             } catch (AssertionError e) {
                 throw new ValidationException("Groovy SQL result set validation failed with assertion error:\n" + e.getMessage(), e);
             }
@@ -27,20 +27,16 @@ import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import com.consol.citrus.xml.XsdSchemaRepository;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
-import com.consol.citrus.xml.schema.WsdlXsdSchema;
-import com.consol.citrus.xml.schema.XsdSchemaCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.*;
 import org.springframework.util.xml.DomUtils;
 import org.springframework.xml.validation.XmlValidator;
-import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.*;
 import org.w3c.dom.ls.LSException;
@@ -49,13 +45,10 @@ import org.xml.sax.SAXParseException;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map.Entry;
 
 /**
@@ -78,8 +71,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     /** Root application context this validator is defined in */
     private ApplicationContext applicationContext;
 
-    /** Transformer factory */
-    private TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    /** Validators of explicitly referenced schema beans, reused as they hold the compiled schema */
+    private final Map<String, XmlValidator> schemaValidators = new ConcurrentHashMap<>();
 
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
@@ -141,7 +134,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+            Document doc = XMLUtils.parseMessagePayload(receivedMessage);
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -152,7 +145,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             XmlValidator validator = null;
             XsdSchemaRepository schemaRepository = null;
             if (validationContext.getSchema() != null) {
-                validator = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class).createValidator();
+                validator = schemaValidators.computeIfAbsent(validationContext.getSchema(),
+                        schemaName -> applicationContext.getBean(schemaName, XsdSchema.class).createValidator());
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = applicationContext.getBean(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -181,30 +175,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                             schemaRepository.getName()));
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }                            
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-                
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                validator = schemaRepository.getValidator();
             }
             
             SAXParseException[] results = validator.validate(new DOMSource(doc));
@@ -249,9 +220,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
 
-        Map<String, String> foundNamespaces = XMLUtils.lookupNamespaces(receivedMessage.getPayload(String.class));
+        Map<String, String> foundNamespaces = XMLUtils.lookupNamespaces(receivedMessage);
 
         if (foundNamespaces.size() != expectedNamespaces.size()) {
             throw new ValidationException("Number of namespace declarations not equal for node " +
@@ -60,7 +60,7 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
 
         log.debug("Start XPath element validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
         NamespaceContext namespaceContext = namespaceContextBuilder.buildContext(
                 receivedMessage, validationContext.getNamespaces());
 
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Variable map layering local variables on top of a shared parent variable scope such as the global variables.
+ * Parent variables are not copied but looked up on demand so creating a new variable scope does not depend on the
+ * number of parent variables. All write operations only affect the local layer, parent variables that get removed
+ * or cleared are hidden in this scope without changing the parent map.
+ *
+ * Like {@link ConcurrentHashMap} this map does not support null keys or values.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public class LayeredVariables extends AbstractMap<String, Object> {
+
+    /** Shared parent variables, read only */
+    private volatile Map<String, Object> parent = Collections.emptyMap();
+
+    /** Local variables overriding parent variables */
+    private final Map<String, Object> local = new ConcurrentHashMap<>();
+
+    /** Parent variable names hidden in this scope */
+    private final Set<String> hidden = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    /** Entry set view */
+    private final Set<Entry<String, Object>> entrySet = new EntrySet();
+
+    /**
+     * Default constructor.
+     */
+    public LayeredVariables() {
+        super();
+    }
+
+    /**
+     * Constructor using parent variables.
+     * @param parent
+     */
+    public LayeredVariables(Map<String, Object> parent) {
+        setParent(parent);
+    }
+
+    /**
+     * Sets the parent variables. Local variables with same name get replaced by parent variables.
+     * @param parent
+     */
+    public void setParent(Map<String, Object> parent) {
+        this.parent = parent != null ? parent : Collections.<String, Object>emptyMap();
+
+        if (!local.isEmpty()) {
+            local.keySet().removeAll(this.parent.keySet());
+        }
+        hidden.clear();
+    }
+
+    /**
+     * Gets the parent variables.
+     * @return
+     */
+    public Map<String, Object> getParent() {
+        return parent;
+    }
+
+    /**
+     * Removes all local variables and makes all parent variables visible again.
+     */
+    public void reset() {
+        local.clear();
+        hidden.clear();
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        if (!hidden.isEmpty() && hidden.contains(key)) {
+            return null;
+        }
+
+        return parent.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+
+        Object previous = get(key);
+        local.put(key, value);
+        hidden.remove(key);
+
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        local.remove(key);
+
+        if (key instanceof String && parent.containsKey(key)) {
+            hidden.add((String) key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        hidden.addAll(parent.keySet());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!local.isEmpty()) {
+            return false;
+        }
+
+        for (String key : parent.keySet()) {
+            if (!hidden.contains(key)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * Merges parent and local variables to a snapshot map. Local variables override parent variables.
+     * @return
+     */
+    private Map<String, Object> snapshot() {
+        Map<String, Object> merged = new LinkedHashMap<>();
+
+        for (Entry<String, Object> entry : parent.entrySet()) {
+            if (!hidden.contains(entry.getKey())) {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        merged.putAll(local);
+
+        return merged;
+    }
+
+    /**
+     * Entry set view working on a snapshot of merged variables. Entry modifications and removals write through to
+     * the layered variables.
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            final Iterator<Entry<String, Object>> snapshot = snapshot().entrySet().iterator();
+
+            return new Iterator<Entry<String, Object>>() {
+                private Entry<String, Object> current;
+
+                @Override
+                public boolean hasNext() {
+                    return snapshot.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    final Entry<String, Object> next = snapshot.next();
+                    current = next;
+
+                    return new SimpleEntry<String, Object>(next) {
+                        @Override
+                        public Object setValue(Object value) {
+                            super.setValue(value);
+                            return put(getKey(), value);
+                        }
+                    };
+                }
+
+                @Override
+                public void remove() {
+                    if (current == null) {
+                        throw new IllegalStateException();
+                    }
+
+                    LayeredVariables.this.remove(current.getKey());
+                    current = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            int size = local.size();
+            for (String key : parent.keySet()) {
+                if (!hidden.contains(key) && !local.containsKey(key)) {
+                    size++;
+                }
+            }
+
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            LayeredVariables.this.clear();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.NoSuchVariableException;
+
+import java.util.*;
+
+/**
+ * Parsed representation of a string holding variable expressions. Template consists of literal segments
+ * and variable references. Templates are cached by their source string so repeated variable replacement on
+ * the same string does not parse the string again but only appends literal segments and variable values.
+ * Cache evicts least recently used templates once the number of templates or the total length of cached source
+ * strings exceeds its limit, so large strings such as message payloads are cached without growing unbounded.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public final class VariableTemplate {
+
+    /** Maximum number of cached templates */
+    private static final int MAX_CACHE_SIZE = 256;
+
+    /** Maximum total length of cached source strings */
+    private static final long MAX_CACHE_LENGTH = 16L * 1024 * 1024;
+
+    /** Cached templates by source string in least recently used order */
+    private static final LinkedHashMap<String, VariableTemplate> templateCache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Total length of cached source strings */
+    private static long cachedLength = 0L;
+
+    /** Literal segments, literals[i] is followed by variable at variableNames[i] */
+    private final String[] literals;
+
+    /** Variable names in order of appearance */
+    private final String[] variableNames;
+
+    /** Length of all literal segments */
+    private final int literalLength;
+
+    /**
+     * Constructor using parsed segments.
+     * @param literals
+     * @param variableNames
+     */
+    private VariableTemplate(String[] literals, String[] variableNames) {
+        this.literals = literals;
+        this.variableNames = variableNames;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Gets cached template for given source string or parses the string and adds new template to the cache.
+     * Source strings exceeding the maximum total cache length are always parsed.
+     * @param str
+     * @return
+     */
+    public static VariableTemplate compile(String str) {
+        VariableTemplate template;
+        synchronized (templateCache) {
+            template = templateCache.get(str);
+        }
+
+        if (template == null) {
+            template = parse(str);
+
+            if (str.length() <= MAX_CACHE_LENGTH) {
+                cache(str, template);
+            }
+        }
+
+        return template;
+    }
+
+    /**
+     * Adds template to the cache and evicts least recently used templates until cache is within its limits.
+     * @param str
+     * @param template
+     */
+    private static void cache(String str, VariableTemplate template) {
+        synchronized (templateCache) {
+            if (templateCache.put(str, template) == null) {
+                cachedLength += str.length();
+            }
+
+            Iterator<String> eldest = templateCache.keySet().iterator();
+            while (templateCache.size() > MAX_CACHE_SIZE || cachedLength > MAX_CACHE_LENGTH) {
+                cachedLength -= eldest.next().length();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Replaces all variable references in this template with respective values from test context.
+     * Variable values are enclosed with quotes if enabled.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public String render(TestContext context, boolean enableQuoting) {
+        if (variableNames.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder result = new StringBuilder(literalLength + variableNames.length * 16);
+        for (int i = 0; i < variableNames.length; i++) {
+            result.append(literals[i]);
+
+            final String value = context.getVariable(variableNames[i]);
+            if (value == null) {
+                throw new NoSuchVariableException("Variable: " + variableNames[i] + " could not be found");
+            }
+
+            if (enableQuoting) {
+                result.append('\'').append(value).append('\'');
+            } else {
+                result.append(value);
+            }
+        }
+        result.append(literals[variableNames.length]);
+
+        return result.toString();
+    }
+
+    /**
+     * Gets the variable names referenced in this template.
+     * @return
+     */
+    public String[] getVariableNames() {
+        return variableNames.clone();
+    }
+
+    /**
+     * Parses given string to literal segments and variable references.
+     * @param str
+     * @return
+     */
+    private static VariableTemplate parse(final String str) {
+        List<String> literals = new ArrayList<>();
+        List<String> variableNames = new ArrayList<>();
+
+        boolean isVarComplete;
+        StringBuilder variableNameBuf = new StringBuilder();
+
+        int startIndex = 0;
+        int curIndex;
+        int searchIndex;
+
+        while ((searchIndex = str.indexOf(Citrus.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            isVarComplete = false;
+
+            curIndex = searchIndex + Citrus.VARIABLE_PREFIX.length();
+
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.startsWith(Citrus.VARIABLE_PREFIX, curIndex)) {
+                    control++;
+                }
+
+                if ((!Character.isJavaIdentifierPart(str.charAt(curIndex)) && (str.charAt(curIndex) == Citrus.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == str.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    variableNameBuf.append(str.charAt(curIndex));
+                }
+                ++curIndex;
+            }
+
+            literals.add(str.substring(startIndex, searchIndex));
+            variableNames.add(variableNameBuf.toString());
+
+            startIndex = curIndex;
+            variableNameBuf.setLength(0);
+        }
+
+        literals.add(str.substring(startIndex));
+
+        return new VariableTemplate(literals.toArray(new String[literals.size()]), variableNames.toArray(new String[variableNames.size()]));
+    }
+}
@@ -25,16 +25,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.xml.namespace.SimpleNamespaceContext;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPathConstants;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
  * Xml data dictionary implementation maps elements via XPath expressions. When element is identified by some expression
  * in dictionary value is overwritten accordingly. Namespace context is either evaluated on the fly or by global namespace
- * context builder.
+ * context builder. Mapping expressions are evaluated once per message document so translating a node is a simple lookup.
  *
  * @author Christoph Deppisch
  * @since 1.4
@@ -47,33 +49,61 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(XpathMappingDataDictionary.class);
 
+    /** Key for node mappings stored as user data on the translated document */
+    private final String nodeMappingsKey = XpathMappingDataDictionary.class.getName() + "@" + Integer.toHexString(System.identityHashCode(this));
+
     @Override
     public <T> T translate(Node node, T value, TestContext context) {
-        for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
-            String expression = expressionEntry.getKey();
+        String mappingValue = getNodeMappings(node.getOwnerDocument()).get(node);
+
+        if (mappingValue != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Data dictionary setting element '%s' value: %s", XMLUtils.getNodesPathName(node), mappingValue));
+            }
+            return convertIfNecessary(context.replaceDynamicContentInString(mappingValue), value);
+        }
+
+        return value;
+    }
 
-            Node finding = (Node) XPathUtils.evaluateExpression(node.getOwnerDocument(), expression, buildNamespaceContext(node), XPathConstants.NODE);
+    /**
+     * Gets node mappings for given document. All mapping expressions are evaluated only once per document, matching
+     * nodes are saved with respective mapping value as user data on the document so translation of nodes
+     * is a simple lookup. First mapping expression matching a node wins.
+     * @param document the message document
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Node, String> getNodeMappings(Document document) {
+        Map<Node, String> nodeMappings = (Map<Node, String>) document.getUserData(nodeMappingsKey);
+
+        if (nodeMappings == null) {
+            nodeMappings = new IdentityHashMap<>();
+            NamespaceContext namespaceContext = buildNamespaceContext(document);
 
-            if (finding != null && finding.equals(node)) {
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Data dictionary setting element '%s' value: %s", XMLUtils.getNodesPathName(node), expressionEntry.getValue()));
+            for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
+                Node finding = (Node) XPathUtils.evaluateExpression(document, expressionEntry.getKey(), namespaceContext, XPathConstants.NODE);
+
+                if (finding != null && !nodeMappings.containsKey(finding)) {
+                    nodeMappings.put(finding, expressionEntry.getValue());
                 }
-                return convertIfNecessary(context.replaceDynamicContentInString(expressionEntry.getValue()), value);
             }
+
+            document.setUserData(nodeMappingsKey, nodeMappings, null);
         }
 
-        return value;
+        return nodeMappings;
     }
 
     /**
-     * Builds namespace context with dynamic lookup on received node document and global namespace mappings from
+     * Builds namespace context with dynamic lookup on received document and global namespace mappings from
      * namespace context builder.
-     * @param node the element node from message
+     * @param document the message document
      * @return
      */
-    private NamespaceContext buildNamespaceContext(Node node) {
+    private NamespaceContext buildNamespaceContext(Document document) {
         SimpleNamespaceContext simpleNamespaceContext = new SimpleNamespaceContext();
-        Map<String, String> namespaces = XMLUtils.lookupNamespaces(node.getOwnerDocument());
+        Map<String, String> namespaces = XMLUtils.lookupNamespaces(document);
 
         // add default namespace mappings
         namespaces.putAll(namespaceContextBuilder.getNamespaceMappings());
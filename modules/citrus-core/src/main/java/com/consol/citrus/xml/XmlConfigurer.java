@@ -48,6 +48,10 @@ public class XmlConfigurer implements InitializingBean {
     private Map<String, Object> parseSettings = new HashMap<>();
     private Map<String, Object> serializeSettings = new HashMap<>();
 
+    /** Thread confined parser and serializer instances reused with default settings */
+    private ThreadLocal<LSParser> threadParser;
+    private ThreadLocal<LSSerializer> threadSerializer;
+
     public static final String SPLIT_CDATA_SECTIONS = "split-cdata-sections";
     public static final String FORMAT_PRETTY_PRINT = "format-pretty-print";
     public static final String ELEMENT_CONTENT_WHITESPACE = "element-content-whitespace";
@@ -77,6 +81,43 @@ public class XmlConfigurer implements InitializingBean {
 
         setDefaultParseSettings();
         setDefaultSerializeSettings();
+        resetThreadInstances();
+    }
+
+    /**
+     * Gets parser instance confined to the current thread. Parser is created once per thread with default settings
+     * and reused for subsequent calls. Clients must not change the parser configuration, use {@link #createLSParser()}
+     * for custom configured parsers instead. In case thread local parser is busy with another parse operation (e.g. in a nested
+     * parse on the same thread) a new parser instance is created.
+     * @return
+     */
+    public LSParser getThreadLSParser() {
+        LSParser parser = threadParser.get();
+
+        if (parser.getBusy()) {
+            return createLSParser();
+        }
+
+        return parser;
+    }
+
+    /**
+     * Gets serializer instance confined to the current thread. Serializer is created once per thread with default settings
+     * and reused for subsequent calls. Clients must not change the serializer configuration, use {@link #createLSSerializer()}
+     * for custom configured serializers instead.
+     * @return
+     */
+    public LSSerializer getThreadLSSerializer() {
+        return threadSerializer.get();
+    }
+
+    /**
+     * Discards all thread confined parser and serializer instances so new instances
+     * with current settings are created on next access.
+     */
+    private void resetThreadInstances() {
+        threadParser = ThreadLocal.withInitial(this::createLSParser);
+        threadSerializer = ThreadLocal.withInitial(this::createLSSerializer);
     }
 
     /**
@@ -248,6 +289,7 @@ public class XmlConfigurer implements InitializingBean {
     public void afterPropertiesSet() throws Exception {
         setDefaultParseSettings();
         setDefaultSerializeSettings();
+        resetThreadInstances();
 
         XMLUtils.initialize(this);
     }
@@ -16,19 +16,27 @@
 
 package com.consol.citrus.xml;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.xml.schema.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.xml.validation.XmlValidator;
+import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -50,6 +58,12 @@ public class XsdSchemaRepository implements BeanNameAware, InitializingBean {
 
     /** Mapping strategy */
     private XsdSchemaMappingStrategy schemaMappingStrategy = new TargetNamespaceSchemaMappingStrategy();
+
+    /** Validator holding compiled schemas of this repository */
+    private XmlValidator validator;
+
+    /** Schemas the cached validator was created from */
+    private List<XsdSchema> validatorSchemas;
     
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(XsdSchemaRepository.class);
@@ -105,6 +119,58 @@ public class XsdSchemaRepository implements BeanNameAware, InitializingBean {
         addCitrusSchema("citrus-ssh-message");
         addCitrusSchema("citrus-rmi-message");
         addCitrusSchema("citrus-jmx-message");
+
+        // Compile schemas eagerly so first message validation does not pay the cost
+        if (!schemas.isEmpty()) {
+            try {
+                getValidator();
+            } catch (IOException | RuntimeException e) {
+                log.warn(String.format("Failed to compile schemas of repository '%s' - postpone to first validation", name), e);
+            }
+        }
+    }
+
+    /**
+     * Gets validator holding the compiled schemas of this repository. Validator is created once and reused
+     * for all messages and threads. Validator is recreated when the list of schemas changes.
+     * @return
+     * @throws IOException
+     */
+    public synchronized XmlValidator getValidator() throws IOException {
+        if (validator == null || !schemas.equals(validatorSchemas)) {
+            validator = createValidator();
+            validatorSchemas = new ArrayList<>(schemas);
+        }
+
+        return validator;
+    }
+
+    /**
+     * Creates new validator compiling all schemas of this repository.
+     * @return
+     * @throws IOException
+     */
+    private XmlValidator createValidator() throws IOException {
+        List<Resource> schemaResources = new ArrayList<>();
+        TransformerFactory transformerFactory = TransformerFactory.newInstance();
+
+        for (XsdSchema xsdSchema : schemas) {
+            if (xsdSchema instanceof XsdSchemaCollection) {
+                schemaResources.addAll(((XsdSchemaCollection) xsdSchema).getSchemaResources());
+            } else if (xsdSchema instanceof WsdlXsdSchema) {
+                schemaResources.addAll(((WsdlXsdSchema) xsdSchema).getSchemaResources());
+            } else {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try {
+                    transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                } catch (TransformerException e) {
+                    throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                }
+                schemaResources.add(new ByteArrayResource(bos.toByteArray()));
+            }
+        }
+
+        return XmlValidatorFactory.createValidator(schemaResources.toArray(new Resource[schemaResources.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
     }
 
     /**
@@ -135,8 +201,9 @@ public class XsdSchemaRepository implements BeanNameAware, InitializingBean {
      * Set the list of known schemas.
      * @param schemas the schemas to set
      */
-    public void setSchemas(List<XsdSchema> schemas) {
+    public synchronized void setSchemas(List<XsdSchema> schemas) {
         this.schemas = schemas;
+        this.validator = null;
     }
 
     /**
@@ -48,17 +48,28 @@ public abstract class AbstractSchemaCollection extends SimpleXsdSchema implement
     /** Imported schemas */
     protected List<String> importedSchemas = new ArrayList<>();
 
+    /** Validator holding the compiled schema, created once and reused as it is thread safe */
+    private volatile XmlValidator validator;
+
     /** Official xmlns namespace */
     public static final String WWW_W3_ORG_2000_XMLNS = "http://www.w3.org/2000/xmlns/";
     public static final String W3C_XML_SCHEMA_NS_URI = "http://www.w3.org/2001/XMLSchema";
 
     @Override
     public XmlValidator createValidator() {
-        try {
-            return XmlValidatorFactory.createValidator(schemaResources.toArray(new Resource[schemaResources.size()]), W3C_XML_SCHEMA_NS_URI);
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to create validator from multi resource schema files", e);
+        if (validator == null) {
+            synchronized (this) {
+                if (validator == null) {
+                    try {
+                        validator = XmlValidatorFactory.createValidator(schemaResources.toArray(new Resource[schemaResources.size()]), W3C_XML_SCHEMA_NS_URI);
+                    } catch (IOException e) {
+                        throw new CitrusRuntimeException("Failed to create validator from multi resource schema files", e);
+                    }
+                }
+            }
         }
+
+        return validator;
     }
 
     /**
@@ -119,6 +130,7 @@ public abstract class AbstractSchemaCollection extends SimpleXsdSchema implement
 
         Assert.isTrue(!schemaResources.isEmpty(), "At least one schema xsd file resource is required");
         setXsd(targetXsd);
+        validator = null;
 
         super.afterPropertiesSet();
     }
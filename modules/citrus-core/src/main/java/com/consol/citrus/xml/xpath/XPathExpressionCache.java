@@ -0,0 +1,142 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml.xpath;
+
+import javax.xml.xpath.XPathExpression;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of compiled XPath expressions. As compiled expressions are not thread safe the cache holds a small pool
+ * of compiled instances per cache key. Clients borrow an expression for evaluation and release it afterwards so
+ * the same instance is never used by two threads at the same time.
+ *
+ * Cache keys are built from expression text and the namespace bindings used in the expression.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public class XPathExpressionCache {
+
+    /** Default maximum number of cached expressions */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /** Default number of compiled instances pooled per expression */
+    public static final int DEFAULT_POOL_SIZE = 8;
+
+    /** Pooled compiled expressions by cache key */
+    private final Map<String, BlockingQueue<XPathExpression>> expressions = new ConcurrentHashMap<>();
+
+    /** Maximum number of cached expressions */
+    private final int maxSize;
+
+    /** Maximum number of compiled instances per expression */
+    private final int poolSize;
+
+    /** Cache statistics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Default constructor.
+     */
+    public XPathExpressionCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Constructor using cache limits.
+     * @param maxSize
+     * @param poolSize
+     */
+    public XPathExpressionCache(int maxSize, int poolSize) {
+        this.maxSize = maxSize;
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Borrows compiled expression from cache. Returns null in case no compiled expression is available for
+     * given key, caller has to compile the expression then.
+     * @param key
+     * @return
+     */
+    public XPathExpression borrow(String key) {
+        BlockingQueue<XPathExpression> pool = expressions.get(key);
+        XPathExpression expression = pool != null ? pool.poll() : null;
+
+        if (expression != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+
+        return expression;
+    }
+
+    /**
+     * Releases compiled expression after evaluation so other clients can reuse it.
+     * @param key
+     * @param expression
+     */
+    public void release(String key, XPathExpression expression) {
+        BlockingQueue<XPathExpression> pool = expressions.get(key);
+
+        if (pool == null) {
+            if (expressions.size() >= maxSize) {
+                expressions.clear();
+            }
+
+            pool = expressions.computeIfAbsent(key, k -> new ArrayBlockingQueue<>(poolSize));
+        }
+
+        pool.offer(expression);
+    }
+
+    /**
+     * Removes all cached expressions and resets statistics.
+     */
+    public void clear() {
+        expressions.clear();
+        hits.set(0L);
+        misses.set(0L);
+    }
+
+    /**
+     * Gets the number of cached expressions.
+     * @return
+     */
+    public int size() {
+        return expressions.size();
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cache misses.
+     * @return
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+}
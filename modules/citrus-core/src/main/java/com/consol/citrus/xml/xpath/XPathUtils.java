@@ -21,6 +21,7 @@ import org.springframework.util.StringUtils;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.xpath.*;
@@ -47,6 +48,9 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
+    /** Compiled expression cache */
+    private static final XPathExpressionCache expressionCache = new XPathExpressionCache();
+
     static {
         xPathFactory = XPathFactory.newInstance();
     }
@@ -295,10 +299,113 @@ public abstract class XPathUtils {
      */
     public static Object evaluateExpression(Node node, String xPathExpression, NamespaceContext nsContext, QName returnType) {
         try {
-            return buildExpression(xPathExpression, nsContext).evaluate(node, returnType);
+            String cacheKey = getCacheKey(xPathExpression, nsContext);
+
+            XPathExpression expression = expressionCache.borrow(cacheKey);
+            if (expression == null) {
+                expression = buildExpression(xPathExpression, nsContext);
+            }
+
+            try {
+                return expression.evaluate(node, returnType);
+            } finally {
+                expressionCache.release(cacheKey, expression);
+            }
         } catch (XPathExpressionException e) {
             throw new CitrusRuntimeException("Can not evaluate xpath expression '"+xPathExpression+"'", e);
         }
     }
 
+    /**
+     * Gets the compiled expression cache for statistics and maintenance.
+     * @return
+     */
+    public static XPathExpressionCache getExpressionCache() {
+        return expressionCache;
+    }
+
+    /**
+     * Gets expression cache key for expression and namespace context. Cache key holds the namespace bindings of all
+     * prefixes used in the expression so compiled expressions are shared among equivalent namespace contexts.
+     * @param xPathExpression
+     * @param nsContext
+     * @return
+     */
+    private static String getCacheKey(String xPathExpression, NamespaceContext nsContext) {
+        if (nsContext == null) {
+            return xPathExpression;
+        }
+
+        return xPathExpression + resolveNamespaceBindings(xPathExpression, nsContext).toString();
+    }
+
+    /**
+     * Resolves namespace uris for all prefixes used in expression with given namespace context. Names starting
+     * with a colon use the default namespace prefix. String literals and axis separators are skipped.
+     * @param xPathExpression
+     * @param nsContext
+     * @return
+     */
+    private static Map<String, String> resolveNamespaceBindings(String xPathExpression, NamespaceContext nsContext) {
+        Map<String, String> bindings = new TreeMap<>();
+
+        char quote = 0;
+        for (int i = 0; i < xPathExpression.length(); i++) {
+            char c = xPathExpression.charAt(i);
+
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == ':') {
+                if (i + 1 < xPathExpression.length() && xPathExpression.charAt(i + 1) == ':') {
+                    i++;
+                    continue;
+                }
+
+                int start = i;
+                while (start > 0 && isNameChar(xPathExpression.charAt(start - 1))) {
+                    start--;
+                }
+
+                String prefix = null;
+                if (start == i) {
+                    prefix = XMLConstants.DEFAULT_NS_PREFIX;
+                } else if (isNameStartChar(xPathExpression.charAt(start))) {
+                    prefix = xPathExpression.substring(start, i);
+                }
+
+                if (prefix != null) {
+                    String namespaceUri = nsContext.getNamespaceURI(prefix);
+
+                    if (StringUtils.hasText(namespaceUri)) {
+                        bindings.put(prefix, namespaceUri);
+                    }
+                }
+            }
+        }
+
+        return bindings;
+    }
+
+    /**
+     * Checks if character may start a namespace prefix.
+     * @param c
+     * @return
+     */
+    private static boolean isNameStartChar(char c) {
+        return c == '_' || Character.isLetter(c);
+    }
+
+    /**
+     * Checks if character may be part of a namespace prefix.
+     * @param c
+     * @return
+     */
+    private static boolean isNameChar(char c) {
+        return c == '-' || c == '.' || c == '\u00B7' || isNameStartChar(c) || Character.isDigit(c);
+    }
+
 }
@@ -17,12 +17,17 @@
 package com.consol.citrus.actions;
 
 import com.consol.citrus.condition.Condition;
+import com.consol.citrus.condition.ObservableCondition;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.mockito.Mockito;
 import org.springframework.util.StringUtils;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.mockito.Mockito.*;
 
 import static org.testng.Assert.fail;
@@ -144,6 +149,65 @@ public class WaitActionTest {
         assertConditionExecutedWithinSeconds(seconds);
     }
 
+    @Test
+    public void shouldSatisfyObservableConditionBeforeNextInterval() throws Exception {
+        String seconds = "5";
+        String interval = "10000";
+
+        final AtomicBoolean satisfied = new AtomicBoolean();
+        final AtomicReference<Runnable> listener = new AtomicReference<>();
+        final ObservableCondition.Subscription subscription = Mockito.mock(ObservableCondition.Subscription.class);
+        ObservableCondition observableCondition = new ObservableCondition() {
+            @Override
+            public Subscription subscribe(TestContext context, Runnable callback, Executor executor) {
+                listener.set(callback);
+                executor.execute(() -> {
+                    try {
+                        Thread.sleep(200L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    satisfied.set(true);
+                    listener.get().run();
+                });
+                return subscription;
+            }
+
+            @Override
+            public String getName() {
+                return "observable-check";
+            }
+
+            @Override
+            public boolean isSatisfied(TestContext context) {
+                return satisfied.get();
+            }
+
+            @Override
+            public String getSuccessMessage(TestContext context) {
+                return "Condition success!";
+            }
+
+            @Override
+            public String getErrorMessage(TestContext context) {
+                return "Condition failed!";
+            }
+        };
+
+        WaitAction testling = getWaitAction(seconds, interval);
+        testling.setCondition(observableCondition);
+
+        reset(contextMock, subscription);
+        prepareContextMock(seconds, interval);
+        startTimer();
+        testling.doExecute(contextMock);
+        stopTimer();
+
+        assertConditionExecutedWithinSeconds("0");
+        verify(subscription).cancel();
+    }
+
     private void prepareContextMock(String waitTime, String interval) {
         when(contextMock.replaceDynamicContentInString(waitTime)).thenReturn(waitTime);
         when(contextMock.replaceDynamicContentInString(interval)).thenReturn(interval);
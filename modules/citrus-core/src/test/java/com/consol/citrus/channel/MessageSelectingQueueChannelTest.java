@@ -25,6 +25,7 @@ import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -123,4 +124,32 @@ public class MessageSelectingQueueChannelTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testReceiveOnMessageArrival() throws Exception {
+        final MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.setPollingInterval(5000L);
+
+        Map<String, String> headers = new HashMap<String, String>();
+        headers.put("foo", "bar");
+        final MessageSelector selector = new HeaderMatchingMessageSelector(headers);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Message<?>> result = executor.submit(new Callable<Message<?>>() {
+                @Override
+                public Message<?> call() throws Exception {
+                    return channel.receive(selector, 10000L);
+                }
+            });
+
+            Thread.sleep(100L);
+            channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+
+            Message<?> receivedMessage = result.get(2000L, TimeUnit.MILLISECONDS);
+            Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class XmlTestDefinitionCacheTest extends AbstractTestNGUnitTest {
+
+    private static final String CONTEXT_FILE = "com/consol/citrus/util/FailureStackExampleTest.xml";
+
+    @AfterMethod
+    public void clearCache() {
+        XmlTestDefinitionCache.clear();
+    }
+
+    @Test
+    public void testCreateApplicationContext() {
+        ConfigurableApplicationContext first = XmlTestDefinitionCache.createApplicationContext(CONTEXT_FILE, applicationContext);
+        ConfigurableApplicationContext second = XmlTestDefinitionCache.createApplicationContext(CONTEXT_FILE, applicationContext);
+
+        TestCase firstTest = first.getBean("MultipleActionsTest", TestCase.class);
+        TestCase secondTest = second.getBean("MultipleActionsTest", TestCase.class);
+
+        Assert.assertNotSame(firstTest, secondTest);
+        Assert.assertNotSame(firstTest.getActions().get(0), secondTest.getActions().get(0));
+        Assert.assertEquals(firstTest.getActionCount(), secondTest.getActionCount());
+        Assert.assertEquals(firstTest.getMetaInfo().getAuthor(), "Christoph Deppisch");
+    }
+
+    @Test
+    public void testPreload() {
+        XmlTestDefinitionCache.preload(Collections.singletonList(CONTEXT_FILE), applicationContext);
+
+        TestCase test = XmlTestDefinitionCache.createApplicationContext(CONTEXT_FILE, applicationContext).getBean("MultipleActionsTest", TestCase.class);
+        Assert.assertEquals(test.getName(), "MultipleActionsTest");
+    }
+
+    @Test
+    public void testPreloadIgnoresMissingFiles() {
+        XmlTestDefinitionCache.preload(Collections.singletonList("com/consol/citrus/common/UnknownTest.xml"), applicationContext);
+    }
+}
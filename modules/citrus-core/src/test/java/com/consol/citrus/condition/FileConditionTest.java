@@ -20,9 +20,14 @@ import com.consol.citrus.context.TestContext;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.*;
+
 import static org.mockito.Mockito.*;
 
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -55,4 +60,34 @@ public class FileConditionTest {
         assertFalse(testling.isSatisfied(contextMock));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldNotifyOnCreatedFile() throws Exception {
+        Path directory = Files.createTempDirectory("citrus-file-condition");
+        Path file = directory.resolve("created.txt");
+
+        FileCondition testling = new FileCondition();
+        String filePath = file.toUri().toString();
+        testling.setFilePath(filePath);
+
+        reset(contextMock);
+        when(contextMock.replaceDynamicContentInString(filePath)).thenReturn(filePath);
+        assertFalse(testling.isSatisfied(contextMock));
+
+        CountDownLatch notified = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ObservableCondition.Subscription subscription = testling.subscribe(contextMock, notified::countDown, executor);
+        try {
+            assertNotNull(subscription);
+
+            Files.write(file, "created".getBytes());
+            assertTrue(notified.await(30L, TimeUnit.SECONDS));
+            assertTrue(testling.isSatisfied(contextMock));
+        } finally {
+            subscription.cancel();
+            executor.shutdownNow();
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
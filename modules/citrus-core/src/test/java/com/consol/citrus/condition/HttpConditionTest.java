@@ -66,8 +66,10 @@ public class HttpConditionTest {
         Assert.assertTrue(testling.isSatisfied(context));
 
         verify(connection).setConnectTimeout(3000);
+        verify(connection).setReadTimeout(3000);
         verify(connection).setRequestMethod("HEAD");
-        verify(connection).disconnect();
+        verify(connection).getInputStream();
+        verify(connection, never()).disconnect();
     }
 
     @Test
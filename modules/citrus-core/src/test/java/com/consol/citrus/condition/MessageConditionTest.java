@@ -18,11 +18,14 @@ package com.consol.citrus.condition;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.DefaultMessageStore;
 import com.consol.citrus.message.MessageStore;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
 
@@ -64,4 +67,43 @@ public class MessageConditionTest {
         Assert.assertFalse(testling.isSatisfied(context));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldNotifyOnStoredMessage() throws Exception {
+        String messageName = "request";
+
+        MessageCondition testling = new MessageCondition();
+        testling.setMessageName(messageName);
+
+        DefaultMessageStore observableStore = new DefaultMessageStore();
+        AtomicInteger notifications = new AtomicInteger();
+
+        reset(context);
+        when(context.replaceDynamicContentInString(messageName)).thenReturn(messageName);
+        when(context.getMessageStore()).thenReturn(observableStore);
+
+        ObservableCondition.Subscription subscription = testling.subscribe(context, notifications::incrementAndGet, Runnable::run);
+        Assert.assertNotNull(subscription);
+
+        observableStore.storeMessage("other", new DefaultMessage("Other"));
+        Assert.assertEquals(notifications.get(), 0);
+
+        observableStore.storeMessage(messageName, new DefaultMessage("OK"));
+        Assert.assertEquals(notifications.get(), 1);
+        Assert.assertTrue(testling.isSatisfied(context));
+
+        subscription.cancel();
+        observableStore.storeMessage(messageName, new DefaultMessage("OK"));
+        Assert.assertEquals(notifications.get(), 1);
+    }
+
+    @Test
+    public void shouldNotSubscribeToPlainMessageStore() throws Exception {
+        MessageCondition testling = new MessageCondition();
+        testling.setMessageName("request");
+
+        reset(context);
+        when(context.getMessageStore()).thenReturn(messageStore);
+
+        Assert.assertNull(testling.subscribe(context, () -> {}, Runnable::run));
+    }
+}
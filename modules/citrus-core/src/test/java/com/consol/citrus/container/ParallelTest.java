@@ -18,13 +18,16 @@ package com.consol.citrus.container;
 
 import com.consol.citrus.TestAction;
 import com.consol.citrus.actions.*;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -146,4 +149,171 @@ public class ParallelTest extends AbstractTestNGUnitTest {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testMaxConcurrency() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setMaxConcurrency(2);
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 6; i++) {
+            actionList.add(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    int current = running.incrementAndGet();
+                    maxRunning.accumulateAndGet(current, Math::max);
+                    try {
+                        Thread.sleep(50L);
+                    } catch (InterruptedException e) {
+                        throw new CitrusRuntimeException(e);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }
+            });
+        }
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testFailFast() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setFailFast(true);
+
+        final AtomicInteger completed = new AtomicInteger();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new FailAction());
+        actionList.add(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                try {
+                    Thread.sleep(5000L);
+                    completed.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        parallelAction.setActions(actionList);
+
+        long start = System.currentTimeMillis();
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception due to failing action");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+            Assert.assertEquals(completed.get(), 0);
+        }
+    }
+
+    @Test(timeOut = 10000L)
+    public void testBlockingActionsOnDefaultExecutor() {
+        Parallel parallelAction = new Parallel();
+
+        final CountDownLatch started = new CountDownLatch(100);
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 100; i++) {
+            actionList.add(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    started.countDown();
+
+                    try {
+                        Assert.assertTrue(started.await(5000L, TimeUnit.MILLISECONDS));
+                    } catch (InterruptedException e) {
+                        throw new CitrusRuntimeException(e);
+                    }
+                }
+            });
+        }
+
+        parallelAction.setActions(actionList);
+        parallelAction.execute(context);
+    }
+
+    @Test(timeOut = 10000L)
+    public void testNestedParallelActionsRunConcurrently() {
+        final CountDownLatch sent = new CountDownLatch(1);
+
+        Parallel nested = new Parallel();
+        nested.setActions(Arrays.<TestAction>asList(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                try {
+                    Assert.assertTrue(sent.await(5000L, TimeUnit.MILLISECONDS));
+                } catch (InterruptedException e) {
+                    throw new CitrusRuntimeException(e);
+                }
+            }
+        }, new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                sent.countDown();
+            }
+        }));
+
+        Parallel parallelAction = new Parallel();
+        parallelAction.setActions(Collections.<TestAction>singletonList(nested));
+        parallelAction.execute(context);
+    }
+
+    @Test
+    public void testFailFastWaitsForStartedActions() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setFailFast(true);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicInteger completed = new AtomicInteger();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                try {
+                    Assert.assertTrue(started.await(5000L, TimeUnit.MILLISECONDS));
+                } catch (InterruptedException e) {
+                    throw new CitrusRuntimeException(e);
+                }
+
+                throw new CitrusRuntimeException("Failed!");
+            }
+        });
+        actionList.add(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                started.countDown();
+
+                long end = System.currentTimeMillis() + 200L;
+                while (System.currentTimeMillis() < end) {
+                    try {
+                        Thread.sleep(end - System.currentTimeMillis());
+                    } catch (InterruptedException e) {
+                        // ignore interrupt on purpose
+                    }
+                }
+
+                completed.incrementAndGet();
+            }
+        });
+
+        parallelAction.setActions(actionList);
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception due to failing action");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(completed.get(), 1);
+        }
+    }
 }
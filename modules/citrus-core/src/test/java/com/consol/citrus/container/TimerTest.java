@@ -22,6 +22,7 @@ import com.consol.citrus.actions.SleepAction;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
@@ -99,6 +100,41 @@ public class TimerTest extends AbstractTestNGUnitTest {
         assertNotNull(timer.timerException);
     }
 
+    @Test
+    public void shouldStopForkedTimer() {
+        reset(action);
+
+        Timer timer = createTimerWithNestedAction(Integer.MAX_VALUE, defaultInterval, true, action);
+        timer.setTimerId("forkedTimer");
+
+        timer.execute(context);
+
+        allowForkedTimerToComplete(defaultInterval);
+        Assert.assertTrue(context.stopTimer("forkedTimer"));
+        allowForkedTimerToComplete(0L);
+
+        int iterations = Integer.valueOf(context.getVariable("forkedTimer" + Timer.INDEX_SUFFIX));
+        Assert.assertTrue(iterations > 1);
+
+        allowForkedTimerToComplete(defaultInterval);
+        assertTimerIndex(iterations, timer);
+        verify(action, times(iterations)).execute(context);
+    }
+
+    @Test
+    public void shouldRecordTimerDrift() {
+        reset(action);
+
+        Timer timer = createTimerWithNestedAction(defaultRepeatCount, defaultInterval, false, action, getSleepAction("200"));
+
+        timer.execute(context);
+
+        assertTimerIndex(defaultRepeatCount, timer);
+        Assert.assertTrue(timer.getMaxDrift() >= 200L);
+        Assert.assertTrue(timer.getAverageDrift() > 0L);
+        Assert.assertTrue(timer.getAverageDrift() <= timer.getMaxDrift());
+    }
+
     private Timer createDefaultTimerWithNestedActionThatFails(boolean forked) {
         return createDefaultTimerWithNestedAction(forked, getFailAction());
     }
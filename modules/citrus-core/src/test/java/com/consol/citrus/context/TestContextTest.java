@@ -106,7 +106,40 @@ public class TestContextTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(testContext.getVariables().containsKey("defaultVar"));
         Assert.assertEquals(testContext.getVariables().get("defaultVar"), "123");
     }
-    
+
+    @Test
+    public void testGlobalVariablesScope() {
+        GlobalVariables globals = new GlobalVariables();
+        globals.getVariables().put("globalVar", "123");
+        globals.getVariables().put("overwrittenVar", "456");
+
+        TestContext testContext = new TestContext();
+        testContext.setGlobalVariables(globals);
+
+        Assert.assertEquals(testContext.getVariables().size(), 2L);
+        Assert.assertEquals(testContext.getVariable("globalVar"), "123");
+
+        testContext.setVariable("overwrittenVar", "ABC");
+        testContext.setVariable("localVar", "XYZ");
+        testContext.getVariables().remove("globalVar");
+
+        Assert.assertEquals(testContext.getVariables().size(), 2L);
+        Assert.assertFalse(testContext.getVariables().containsKey("globalVar"));
+        Assert.assertEquals(testContext.getVariable("overwrittenVar"), "ABC");
+        Assert.assertEquals(testContext.getVariable("localVar"), "XYZ");
+
+        Assert.assertEquals(globals.getVariables().size(), 2L);
+        Assert.assertEquals(globals.getVariables().get("globalVar"), "123");
+        Assert.assertEquals(globals.getVariables().get("overwrittenVar"), "456");
+
+        testContext.clear();
+
+        Assert.assertEquals(testContext.getVariables().size(), 2L);
+        Assert.assertEquals(testContext.getVariable("globalVar"), "123");
+        Assert.assertEquals(testContext.getVariable("overwrittenVar"), "456");
+        Assert.assertFalse(testContext.getVariables().containsKey("localVar"));
+    }
+
     @Test
     public void testGetVariable() {
         context.getVariables().put("test", "123");
@@ -290,6 +323,20 @@ public class TestContextTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(replaceValues[2], "test");
     }
     
+    @Test
+    public void testReplaceDynamicContentInStringRepeatedly() {
+        String template = "<Text>${greeting} citrus:upperCase('${name}')! ${greeting}</Text>";
+
+        context.setVariable("greeting", "Hello");
+        context.setVariable("name", "foo");
+        Assert.assertEquals(context.replaceDynamicContentInString(template), "<Text>Hello FOO! Hello</Text>");
+        Assert.assertEquals(context.replaceDynamicContentInString("${greeting} ${name}", true), "'Hello' 'foo'");
+
+        context.setVariable("greeting", "Hi");
+        context.setVariable("name", "bar");
+        Assert.assertEquals(context.replaceDynamicContentInString(template), "<Text>Hi BAR! Hi</Text>");
+    }
+
     @Test
     public void testResolveDynamicValue() {
         context.getVariables().put("test", "testtesttest");
@@ -80,6 +80,24 @@ public class DefaultEndpointFactoryTest {
         Assert.assertEquals(((ChannelEndpoint)endpoint).getEndpointConfiguration().getChannelName(), "custom.channel");
     }
 
+    @Test
+    public void testCachedEndpointComponents() throws Exception {
+        reset(applicationContext);
+        when(applicationContext.getBeansOfType(EndpointComponent.class)).thenReturn(Collections.<String, EndpointComponent>emptyMap());
+        TestContext context = new TestContext();
+        context.setApplicationContext(applicationContext);
+
+        DefaultEndpointFactory factory = new DefaultEndpointFactory();
+        Endpoint endpoint = factory.create("channel:channel.name", context);
+        Assert.assertSame(factory.create("channel:channel.name", context), endpoint);
+
+        Endpoint other = factory.create("channel:other.channel", context);
+        Assert.assertNotSame(other, endpoint);
+        Assert.assertEquals(((ChannelEndpoint)other).getEndpointConfiguration().getChannelName(), "other.channel");
+
+        verify(applicationContext, times(1)).getBeansOfType(EndpointComponent.class);
+    }
+
     @Test
     public void testOverwriteEndpointComponent() throws Exception {
         Map<String, EndpointComponent> components = new HashMap<String, EndpointComponent>();
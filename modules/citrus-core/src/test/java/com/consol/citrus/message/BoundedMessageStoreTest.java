@@ -0,0 +1,135 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class BoundedMessageStoreTest {
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        BoundedMessageStore messageStore = new BoundedMessageStore();
+        messageStore.setMaxMessages(2);
+
+        messageStore.storeMessage("first", new DefaultMessage("First"));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "First");
+
+        messageStore.storeMessage("third", new DefaultMessage("Third"));
+
+        Assert.assertEquals(messageStore.getMessageCount(), 2);
+        Assert.assertNull(messageStore.getMessage("second"));
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "First");
+        Assert.assertEquals(messageStore.getMessage("third").getPayload(String.class), "Third");
+    }
+
+    @Test
+    public void testEvictByBytes() {
+        BoundedMessageStore messageStore = new BoundedMessageStore();
+        messageStore.setMaxBytes(20L);
+
+        messageStore.storeMessage("first", new DefaultMessage("0123456789"));
+        Assert.assertEquals(messageStore.getStoredBytes(), 20L);
+
+        messageStore.storeMessage("second", new DefaultMessage("0123456789".getBytes()));
+
+        Assert.assertEquals(messageStore.getMessageCount(), 1);
+        Assert.assertEquals(messageStore.getStoredBytes(), 10L);
+        Assert.assertNull(messageStore.getMessage("first"));
+    }
+
+    @Test
+    public void testSpillToDisk() {
+        BoundedMessageStore messageStore = new BoundedMessageStore();
+        messageStore.setMaxMessages(1);
+        messageStore.setSpillToDisk(true);
+
+        try {
+            messageStore.storeMessage("request", new DefaultMessage("RequestMessage")
+                    .setHeader("operation", "sayHello")
+                    .addHeaderData("<Header/>"));
+            messageStore.storeMessage("response", new DefaultMessage("ResponseMessage"));
+
+            Assert.assertEquals(messageStore.getMessageCount(), 1);
+            Assert.assertEquals(messageStore.getSpilledMessageCount(), 1);
+
+            Message request = messageStore.getMessage("request");
+            Assert.assertEquals(request.getPayload(String.class), "RequestMessage");
+            Assert.assertEquals(request.getHeader("operation"), "sayHello");
+            Assert.assertEquals(request.getHeaderData().get(0), "<Header/>");
+
+            Assert.assertEquals(messageStore.getSpilledMessageCount(), 1);
+            Assert.assertEquals(messageStore.getMessage("response").getPayload(String.class), "ResponseMessage");
+        } finally {
+            messageStore.close();
+        }
+
+        Assert.assertEquals(messageStore.getSpilledMessageCount(), 0);
+    }
+
+    @Test
+    public void testStoreReplacesSpilledMessage() {
+        BoundedMessageStore messageStore = new BoundedMessageStore();
+        messageStore.setMaxMessages(1);
+        messageStore.setSpillToDisk(true);
+
+        try {
+            messageStore.storeMessage("request", new DefaultMessage("First"));
+            messageStore.storeMessage("response", new DefaultMessage("Response"));
+            messageStore.storeMessage("request", new DefaultMessage("Second"));
+
+            Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "Second");
+            Assert.assertEquals(messageStore.getMessage("response").getPayload(String.class), "Response");
+        } finally {
+            messageStore.close();
+        }
+    }
+
+    @Test
+    public void testCompactSpillFile() {
+        BoundedMessageStore messageStore = new BoundedMessageStore();
+        messageStore.setMaxMessages(1);
+        messageStore.setSpillToDisk(true);
+
+        char[] payload = new char[256 * 1024];
+        Arrays.fill(payload, 'x');
+
+        try {
+            messageStore.storeMessage("first", new DefaultMessage("first" + new String(payload)));
+            messageStore.storeMessage("second", new DefaultMessage("second" + new String(payload)));
+            messageStore.storeMessage("third", new DefaultMessage("third" + new String(payload)));
+
+            for (int i = 0; i < 30; i++) {
+                String id = i % 2 == 0 ? "first" : "second";
+                Assert.assertTrue(messageStore.getMessage(id).getPayload(String.class).startsWith(id));
+            }
+
+            Assert.assertTrue(messageStore.getSpillFileSize() < 12 * payload.length);
+            Assert.assertTrue(messageStore.getMessage("first").getPayload(String.class).startsWith("first"));
+            Assert.assertTrue(messageStore.getMessage("second").getPayload(String.class).startsWith("second"));
+            Assert.assertTrue(messageStore.getMessage("third").getPayload(String.class).startsWith("third"));
+        } finally {
+            messageStore.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.util.JsonUtils;
+import com.consol.citrus.util.XMLUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ParsedPayloadCacheTest {
+
+    @Test
+    public void testXmlDocumentCache() {
+        Message message = new DefaultMessage("<ns0:root xmlns:ns0=\"http://citrusframework.org/test\"><text>Hello</text></ns0:root>");
+
+        Document document = XMLUtils.parseMessagePayload(message);
+        Assert.assertSame(XMLUtils.parseMessagePayload(message), document);
+        Assert.assertSame(XMLUtils.lookupNamespaces(message), XMLUtils.lookupNamespaces(message));
+        Assert.assertEquals(XMLUtils.lookupNamespaces(message).get("ns0"), "http://citrusframework.org/test");
+
+        message.setPayload("<root><text>Hello</text></root>");
+        Document changed = XMLUtils.parseMessagePayload(message);
+        Assert.assertNotSame(changed, document);
+        Assert.assertEquals(changed.getDocumentElement().getLocalName(), "root");
+        Assert.assertTrue(XMLUtils.lookupNamespaces(message).isEmpty());
+
+        ParsedPayloadCache.clear(message);
+        Assert.assertNull(ParsedPayloadCache.get(message, ParsedPayloadCache.XML_DOCUMENT, Document.class));
+    }
+
+    @Test
+    public void testJsonCache() throws Exception {
+        Message message = new DefaultMessage("{\"text\": \"Hello\"}");
+
+        Object json = JsonUtils.parseMessagePayload(message);
+        Assert.assertSame(JsonUtils.parseMessagePayload(message), json);
+
+        message.setPayload("{\"text\": \"Hello\", \"id\": 1}");
+        Assert.assertNotSame(JsonUtils.parseMessagePayload(message), json);
+    }
+}
@@ -21,6 +21,8 @@ import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.*;
+
 import static org.mockito.Mockito.*;
 
 
@@ -83,4 +85,63 @@ public class PollingCorrelationManagerTest {
         Assert.assertNull(correlationManager.find("foo"));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindOnStoreNotification() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(5000L);
+        pollableEndpointConfiguration.setTimeout(10000L);
+
+        final PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager(pollableEndpointConfiguration, "Try again");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return correlationManager.find("foo");
+                }
+            });
+
+            Thread.sleep(100L);
+            correlationManager.store("foo", "bar");
+
+            Assert.assertEquals(result.get(2000L, TimeUnit.MILLISECONDS), "bar");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFindOnStoreNotificationAfterOtherWaiterLeft() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(5000L);
+        pollableEndpointConfiguration.setTimeout(10000L);
+
+        final PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager(pollableEndpointConfiguration, "Try again");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> timedOut = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return correlationManager.find("foo", 200L);
+                }
+            });
+
+            Future<String> result = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return correlationManager.find("foo");
+                }
+            });
+
+            Assert.assertNull(timedOut.get(2000L, TimeUnit.MILLISECONDS));
+            correlationManager.store("foo", "bar");
+
+            Assert.assertEquals(result.get(2000L, TimeUnit.MILLISECONDS), "bar");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
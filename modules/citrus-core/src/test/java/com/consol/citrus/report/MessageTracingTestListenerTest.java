@@ -16,14 +16,16 @@
 
 package com.consol.citrus.report;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCase;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.RawMessage;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
 import java.util.Scanner;
+import java.util.zip.GZIPInputStream;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -62,6 +64,89 @@ public class MessageTracingTestListenerTest {
         assertFileExistsWithContent(testname, outboundPayload);
     }
 
+    @Test
+    public void shouldSeparateMessagesOfParallelTests() throws Exception {
+        TestCase fooTestMock = setupTestCaseMock("FooParallelTest");
+        TestCase barTestMock = setupTestCaseMock("BarParallelTest");
+
+        TestContext fooContext = new TestContext();
+        fooContext.setVariable(Citrus.TEST_NAME_VARIABLE, "FooParallelTest");
+        TestContext barContext = new TestContext();
+        barContext.setVariable(Citrus.TEST_NAME_VARIABLE, "BarParallelTest");
+
+        testling.afterPropertiesSet();
+        testling.onTestStart(fooTestMock);
+        testling.onTestStart(barTestMock);
+        testling.onInboundMessage(setupRawMessageMock("Foo Message"), fooContext);
+        testling.onInboundMessage(setupRawMessageMock("Bar Message"), barContext);
+        testling.onTestFinish(barTestMock);
+        testling.onTestFinish(fooTestMock);
+
+        assertFileExistsWithContent("FooParallelTest", "Foo Message");
+        assertFileExistsWithContent("BarParallelTest", "Bar Message");
+        assertFileExistsWithoutContent("FooParallelTest", "Bar Message");
+        assertFileExistsWithoutContent("BarParallelTest", "Foo Message");
+    }
+
+    @Test
+    public void shouldSeparateMessagesOfSameTestInvocations() throws Exception {
+        final TestCase firstTestMock = setupTestCaseMock("SameNameTest");
+        final TestCase secondTestMock = setupTestCaseMock("SameNameTest");
+
+        final TestContext firstContext = new TestContext();
+        firstContext.setVariable(Citrus.TEST_NAME_VARIABLE, "SameNameTest");
+        final TestContext secondContext = new TestContext();
+        secondContext.setVariable(Citrus.TEST_NAME_VARIABLE, "SameNameTest");
+
+        testling.afterPropertiesSet();
+
+        Thread firstTest = new Thread(() -> {
+            testling.onTestStart(firstTestMock);
+            testling.onInboundMessage(setupRawMessageMock("First Message"), firstContext);
+        });
+        firstTest.start();
+        firstTest.join();
+
+        Thread secondTest = new Thread(() -> {
+            testling.onTestStart(secondTestMock);
+            testling.onInboundMessage(setupRawMessageMock("Second Message"), secondContext);
+        });
+        secondTest.start();
+        secondTest.join();
+
+        testling.onOutboundMessage(setupRawMessageMock("First Reply"), firstContext);
+        testling.onTestFinish(firstTestMock);
+        testling.onTestFinish(secondTestMock);
+
+        testling.onInboundMessage(setupRawMessageMock("Late Message"), firstContext);
+
+        assertFileExistsWithContent("SameNameTest", "First Message");
+        assertFileExistsWithContent("SameNameTest", "First Reply");
+        assertFileExistsWithContent("SameNameTest_2", "Second Message");
+        assertFileExistsWithoutContent("SameNameTest", "Second Message");
+        assertFileExistsWithoutContent("SameNameTest_2", "First Message");
+        assertFileExistsWithoutContent("SameNameTest", "Late Message");
+    }
+
+    @Test
+    public void shouldCompressTraceFile() throws Exception {
+        MessageTracingTestListener compressingListener = new MessageTracingTestListener();
+        compressingListener.setCompress(true);
+
+        TestCase testCaseMock = setupTestCaseMock("CompressedTest");
+
+        compressingListener.afterPropertiesSet();
+        compressingListener.onTestStart(testCaseMock);
+        compressingListener.onOutboundMessage(setupRawMessageMock("Compressed Message"), null);
+        compressingListener.onTestFinish(testCaseMock);
+
+        File traceFile = compressingListener.getTraceFile("CompressedTest");
+        Assert.assertTrue(traceFile.getName().endsWith(".msgs.gz"));
+        try (Scanner scanner = new Scanner(new GZIPInputStream(new FileInputStream(traceFile)))) {
+            Assert.assertTrue(scanner.useDelimiter("\\Z").next().contains("Compressed Message"));
+        }
+    }
+
     private TestCase setupTestCaseMock(String testname) {
         TestCase mock = mock(TestCase.class);
         when(mock.getName()).thenReturn(testname);
@@ -85,4 +170,16 @@ public class MessageTracingTestListenerTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    private void assertFileExistsWithoutContent(String testname, String content) {
+        File traceFile = testling.getTraceFile(testname);
+        Assert.assertTrue(traceFile.isFile());
+        try (Scanner scanner = new Scanner(traceFile)) {
+            String fileContent = scanner.useDelimiter("\\Z").next();
+            Assert.assertFalse(fileContent.contains(content));
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class GroovyScriptCacheTest {
+
+    @Test
+    public void testScriptClassCache() {
+        String code = "return 'Hello from cache test " + System.nanoTime() + "'";
+
+        long compileCount = GroovyScriptCache.getCompileCount();
+        long cacheHits = GroovyScriptCache.getCacheHits();
+
+        Class<?> groovyClass = GroovyScriptCache.getScriptClass(code);
+        Assert.assertSame(GroovyScriptCache.getScriptClass(code), groovyClass);
+
+        Assert.assertEquals(GroovyScriptCache.getCompileCount(), compileCount + 1);
+        Assert.assertEquals(GroovyScriptCache.getCacheHits(), cacheHits + 1);
+
+        Assert.assertNotSame(GroovyScriptCache.getScriptClass(code + " + '!'"), groovyClass);
+    }
+
+    @Test
+    public void testNewInstance() {
+        long executionCount = GroovyScriptCache.getExecutionCount();
+
+        long start = System.nanoTime();
+        Object result = GroovyScriptCache.newInstance("return 'Hello'").invokeMethod("run", new Object[] {});
+        GroovyScriptCache.recordExecution(start);
+
+        Assert.assertEquals(result, "Hello");
+        Assert.assertEquals(GroovyScriptCache.getExecutionCount(), executionCount + 1);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testCompilationFailed() {
+        GroovyScriptCache.newInstance("return 'Hello");
+    }
+}
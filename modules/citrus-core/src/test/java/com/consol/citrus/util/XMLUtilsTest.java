@@ -383,4 +383,27 @@ public class XMLUtilsTest {
         Assert.assertEquals(XMLUtils.omitXmlDeclaration(""), "");
         Assert.assertEquals(XMLUtils.omitXmlDeclaration("Test"), "Test");
     }
+
+    @Test
+    public void testParseBytesAndStream() throws Exception {
+        byte[] content = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?><testRequest><message>H\u00e4llo</message></testRequest>".getBytes("ISO-8859-1");
+
+        Document doc = XMLUtils.parse(content);
+        Assert.assertEquals(doc.getDocumentElement().getTextContent(), "H\u00e4llo");
+        Assert.assertEquals(doc.getInputEncoding(), "ISO-8859-1");
+
+        doc = XMLUtils.parse(new ByteArrayInputStream(content));
+        Assert.assertEquals(doc.getDocumentElement().getTextContent(), "H\u00e4llo");
+    }
+
+    @Test
+    public void testReuseThreadParser() {
+        Document first = XMLUtils.parseMessagePayload("<testRequest><message>Hello</message></testRequest>");
+        Document second = XMLUtils.parseMessagePayload("<testResponse><message>Hi</message></testResponse>");
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(first.getDocumentElement().getLocalName(), "testRequest");
+        Assert.assertEquals(second.getDocumentElement().getLocalName(), "testResponse");
+        Assert.assertTrue(XMLUtils.serialize(first).contains("<message>Hello</message>"));
+    }
 }
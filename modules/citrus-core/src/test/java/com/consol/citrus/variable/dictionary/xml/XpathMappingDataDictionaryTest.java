@@ -26,6 +26,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -183,4 +184,23 @@ public class XpathMappingDataDictionaryTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(intercepted.getPayload(String.class).trim().contains("<h1>Hello Citrus!</h1>"));
         Assert.assertTrue(intercepted.getPayload(String.class).trim().contains("<hr />"));
     }
+
+    @Test
+    public void testTranslateIndexedElements() throws Exception {
+        Message message = new DefaultMessage("<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage><Text>Hello World!</Text><Text>Hello Citrus!</Text><Text name=\"foo\">No changes</Text></TestMessage>");
+
+        Map<String, String> mappings = new LinkedHashMap<String, String>();
+        mappings.put("//TestMessage/Text[2]", "Hello!");
+        mappings.put("//TestMessage/Text[3]/@name", "bar");
+
+        XpathMappingDataDictionary dictionary = new XpathMappingDataDictionary();
+        dictionary.setMappings(mappings);
+
+        Message intercepted = dictionary.interceptMessage(message, Citrus.DEFAULT_MESSAGE_TYPE, context);
+        Assert.assertEquals(intercepted.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                "   <Text>Hello World!</Text>" + System.getProperty("line.separator") +
+                "   <Text>Hello!</Text>" + System.getProperty("line.separator") +
+                "   <Text name=\"bar\">No changes</Text>" + System.getProperty("line.separator") +
+                "</TestMessage>");
+    }
 }
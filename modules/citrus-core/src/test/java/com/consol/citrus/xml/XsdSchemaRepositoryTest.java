@@ -16,12 +16,15 @@
 
 package com.consol.citrus.xml;
 
+import org.springframework.xml.validation.XmlValidator;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.consol.citrus.xml.schema.WsdlXsdSchema;
 
+import java.util.ArrayList;
+
 /**
  * @author Christoph Deppisch
  */
@@ -134,4 +137,20 @@ public class XsdSchemaRepositoryTest {
         Assert.assertEquals(schemaRepository.getSchemas().size(), 1);
         Assert.assertEquals(schemaRepository.getSchemas().get(0).getClass(), SimpleXsdSchema.class);
     }
+
+    @Test
+    public void testCachedValidator() throws Exception {
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+
+        schemaRepository.getLocations().add("classpath:com/consol/citrus/schema/citrus-config.xsd");
+
+        schemaRepository.afterPropertiesSet();
+
+        XmlValidator validator = schemaRepository.getValidator();
+        Assert.assertSame(schemaRepository.getValidator(), validator);
+
+        schemaRepository.setSchemas(new ArrayList<>(schemaRepository.getSchemas()));
+
+        Assert.assertNotSame(schemaRepository.getValidator(), validator);
+    }
 }
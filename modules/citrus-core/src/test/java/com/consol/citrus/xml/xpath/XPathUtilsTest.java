@@ -19,8 +19,13 @@ package com.consol.citrus.xml.xpath;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.consol.citrus.util.XMLUtils;
+import org.springframework.xml.namespace.SimpleNamespaceContext;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+
+import javax.xml.xpath.XPathConstants;
 
 /**
  * @author Christoph Deppisch
@@ -69,4 +74,37 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.replaceDynamicNamespaces("//{http://citrusframework.org/unkown}Foo/{http://citrusframework.org/unknown}bar", namespaces),
                 "//{http://citrusframework.org/unkown}Foo/{http://citrusframework.org/unknown}bar");
     }
+
+    @Test
+    public void testCompiledExpressionCache() {
+        Document doc = XMLUtils.parseMessagePayload("<ns1:Foo xmlns:ns1=\"http://citrusframework.org/foo\"><ns1:bar>Hello</ns1:bar></ns1:Foo>");
+        Document otherDoc = XMLUtils.parseMessagePayload("<ns1:Foo xmlns:ns1=\"http://citrusframework.org/other\"><ns1:bar>Hi</ns1:bar></ns1:Foo>");
+
+        SimpleNamespaceContext fooContext = new SimpleNamespaceContext();
+        fooContext.bindNamespaceUri("ns1", "http://citrusframework.org/foo");
+        SimpleNamespaceContext otherContext = new SimpleNamespaceContext();
+        otherContext.bindNamespaceUri("ns1", "http://citrusframework.org/other");
+
+        XPathExpressionCache cache = XPathUtils.getExpressionCache();
+        long hits = cache.getHits();
+
+        Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/ns1:Foo/ns1:bar", fooContext), "Hello");
+        Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/ns1:Foo/ns1:bar", fooContext), "Hello");
+        Assert.assertTrue(cache.getHits() > hits);
+
+        //same expression with different namespace binding must not reuse compiled expression
+        Assert.assertEquals(XPathUtils.evaluateAsString(otherDoc, "/ns1:Foo/ns1:bar", otherContext), "Hi");
+        Assert.assertNull(XPathUtils.evaluateExpression(doc, "/ns1:Foo/ns1:bar", otherContext, XPathConstants.NODE));
+    }
+
+    @Test
+    public void testNonAsciiNamespacePrefix() {
+        Document doc = XMLUtils.parseMessagePayload("<ns1:Foo xmlns:ns1=\"http://citrusframework.org/foo\"><ns1:bar name=\"a:b\">Hello</ns1:bar></ns1:Foo>");
+
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("\u00f1s", "http://citrusframework.org/foo");
+
+        Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/\u00f1s:Foo/child::\u00f1s:bar[@name = 'a:b']", namespaceContext), "Hello");
+        Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/\u00f1s:Foo/child::\u00f1s:bar[@name = 'a:b']", namespaceContext), "Hello");
+    }
 }
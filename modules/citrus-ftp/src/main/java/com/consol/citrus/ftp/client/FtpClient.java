@@ -34,8 +34,16 @@ import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 
 import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Ftp client sends commands to a ftp server. Client keeps a pool of logged in connections so concurrent test actions
+ * do not have to share a single control connection. Pooled connections get validated before reuse and closed
+ * after being idle for some time.
+ *
  * @author Christoph Deppisch
  * @since 2.0
  */
@@ -43,9 +51,24 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(FtpClient.class);
 
-    /** Apache ftp client */
+    /** Apache ftp client, first connection in pool */
     private FTPClient ftpClient;
 
+    /** Marks first connection as part of the pool */
+    private final AtomicBoolean ftpClientPooled = new AtomicBoolean();
+
+    /** Additional connections created on demand */
+    private final Set<FTPClient> connections = ConcurrentHashMap.newKeySet();
+
+    /** Idle connections, most recently used first */
+    private final BlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+
+    /** Number of currently open pooled connections */
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    /** Permits for connections in use, limited by max connections */
+    private Semaphore connectionPermits;
+
     /** Apache ftp client configuration */
     private FTPClientConfig config = new FTPClientConfig();
 
@@ -92,24 +115,178 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             log.debug("Message to send:\n" + ftpMessage.getPayload(String.class));
         }
 
+        FTPClient connection = borrowConnection();
+        boolean valid = false;
         try {
-            connectAndLogin();
+            connectAndLogin(connection);
 
-            int reply = ftpClient.sendCommand(ftpMessage.getCommand(), ftpMessage.getArguments());
+            int reply = connection.sendCommand(ftpMessage.getCommand(), ftpMessage.getArguments());
+            valid = true;
 
             if(!FTPReply.isPositiveCompletion(reply) && !FTPReply.isPositivePreliminary(reply)) {
-                throw new CitrusRuntimeException(String.format("Failed to send FTP command - reply is: %s:%s", reply, ftpClient.getReplyString()));
+                throw new CitrusRuntimeException(String.format("Failed to send FTP command - reply is: %s:%s", reply, connection.getReplyString()));
             }
 
             log.info(String.format("FTP message was sent to: '%s:%s'", getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort()));
 
             correlationManager.store(correlationKey, new FtpMessage(ftpMessage.getCommand(), ftpMessage.getArguments())
                     .replyCode(reply)
-                    .replyString(ftpClient.getReplyString()));
+                    .replyString(connection.getReplyString()));
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to execute ftp command", e);
+        } finally {
+            if (valid) {
+                releaseConnection(connection);
+            } else {
+                closeConnection(connection);
+            }
+
+            getConnectionPermits().release();
+        }
+    }
+
+    /**
+     * Gets idle connection from pool or opens a new connection when no idle connection is available. Waits for
+     * a connection permit when max connections are in use by other threads. Permit is released when the connection
+     * is returned to the pool or closed. Idle connections are validated before reuse.
+     * @return
+     */
+    private FTPClient borrowConnection() {
+        evictIdleConnections();
+
+        long timeout = getEndpointConfiguration().getTimeout();
+        Semaphore permits = getConnectionPermits();
+        try {
+            if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new ActionTimeoutException(String.format("Failed to get FTP connection within %s ms - all %s connections in use",
+                        timeout, getEndpointConfiguration().getMaxConnections()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for FTP connection", e);
+        }
+
+        try {
+            PooledConnection pooled;
+            while ((pooled = idleConnections.pollFirst()) != null) {
+                if (isValid(pooled)) {
+                    return pooled.connection;
+                }
+
+                closeConnection(pooled.connection);
+            }
+
+            connectionCount.incrementAndGet();
+            return createConnection();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the connection permits, creates permits for max connections on first access.
+     * @return
+     */
+    private synchronized Semaphore getConnectionPermits() {
+        if (connectionPermits == null) {
+            connectionPermits = new Semaphore(Math.max(1, getEndpointConfiguration().getMaxConnections()), true);
+        }
+
+        return connectionPermits;
+    }
+
+    /**
+     * Returns connection to the pool of idle connections.
+     * @param connection
+     */
+    private void releaseConnection(FTPClient connection) {
+        idleConnections.offerFirst(new PooledConnection(connection));
+    }
+
+    /**
+     * Validates idle connection with noop command when connection has been idle for longer than validation interval.
+     * @param pooled
+     * @return
+     */
+    private boolean isValid(PooledConnection pooled) {
+        long validationInterval = getEndpointConfiguration().getValidationInterval();
+        if (validationInterval < 0 || !pooled.connection.isConnected() ||
+                System.currentTimeMillis() - pooled.lastUsed < validationInterval) {
+            return true;
+        }
+
+        try {
+            return pooled.connection.sendNoOp();
+        } catch (IOException e) {
+            log.warn("Failed to validate FTP connection", e);
+            return false;
+        }
+    }
+
+    /**
+     * Closes all connections that have been idle for longer than idle timeout.
+     */
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        for (PooledConnection pooled : idleConnections) {
+            if (now - pooled.lastUsed > getEndpointConfiguration().getIdleTimeout() && idleConnections.remove(pooled)) {
+                closeConnection(pooled.connection);
+            }
+        }
+    }
+
+    /**
+     * Creates new connection. First connection in pool is the Apache ftp client set on this endpoint.
+     * @return
+     */
+    private FTPClient createConnection() {
+        if (ftpClient != null && ftpClientPooled.compareAndSet(false, true)) {
+            return ftpClient;
         }
 
+        FTPClient connection = new FTPClient();
+        configure(connection);
+        connections.add(connection);
+
+        return connection;
+    }
+
+    /**
+     * Closes given connection and removes it from pool.
+     * @param connection
+     */
+    private void closeConnection(FTPClient connection) {
+        disconnect(connection);
+
+        if (connection == ftpClient) {
+            ftpClientPooled.set(false);
+        } else {
+            connections.remove(connection);
+        }
+        connectionCount.decrementAndGet();
+    }
+
+    /**
+     * Performs logout and disconnects given connection if connected.
+     * @param connection
+     */
+    private void disconnect(FTPClient connection) {
+        if (connection.isConnected()) {
+            try {
+                connection.logout();
+            } catch (IOException e) {
+                log.warn("Failed to logout from FTP server", e);
+            }
+
+            try {
+                connection.disconnect();
+            } catch (IOException e) {
+                log.warn("Failed to disconnect from FTP server", e);
+            }
+
+            log.info("Closed connection to FTP server");
+        }
     }
 
     /**
@@ -117,6 +294,15 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected void connectAndLogin() throws IOException {
+        connectAndLogin(ftpClient);
+    }
+
+    /**
+     * Opens a new connection on given ftp client and performs login with user name and password if set.
+     * @param ftpClient
+     * @throws IOException
+     */
+    protected void connectAndLogin(FTPClient ftpClient) throws IOException {
         if (!ftpClient.isConnected()) {
             ftpClient.connect(getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
 
@@ -179,6 +365,14 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             ftpClient = new FTPClient();
         }
 
+        configure(ftpClient);
+    }
+
+    /**
+     * Applies client configuration and command logging to given ftp client.
+     * @param ftpClient
+     */
+    private void configure(FTPClient ftpClient) {
         ftpClient.configure(config);
 
         ftpClient.addProtocolCommandListener(new ProtocolCommandListener() {
@@ -200,17 +394,19 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     @Override
     public void destroy() throws Exception {
-        if (ftpClient.isConnected()) {
-            ftpClient.logout();
+        idleConnections.clear();
 
-            try {
-                ftpClient.disconnect();
-            } catch (IOException e) {
-                log.warn("Failed to disconnect from FTP server", e);
-            }
+        for (FTPClient connection : connections) {
+            disconnect(connection);
+        }
+        connections.clear();
 
-            log.info("Closed connection to FTP server");
+        if (ftpClient != null) {
+            disconnect(ftpClient);
         }
+
+        ftpClientPooled.set(false);
+        connectionCount.set(0);
     }
 
     /**
@@ -256,4 +452,32 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     public void setCorrelationManager(CorrelationManager<Message> correlationManager) {
         this.correlationManager = correlationManager;
     }
+
+    /**
+     * Gets the number of currently open pooled connections.
+     * @return
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * Gets the number of idle pooled connections.
+     * @return
+     */
+    public int getIdleConnectionCount() {
+        return idleConnections.size();
+    }
+
+    /**
+     * Idle connection in pool with last usage time.
+     */
+    private static final class PooledConnection {
+        private final FTPClient connection;
+        private final long lastUsed = System.currentTimeMillis();
+
+        PooledConnection(FTPClient connection) {
+            this.connection = connection;
+        }
+    }
 }
@@ -102,4 +102,34 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the maximum number of concurrently open connections.
+     * @param maxConnections
+     * @return
+     */
+    public FtpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the idle timeout of pooled connections.
+     * @param idleTimeout
+     * @return
+     */
+    public FtpClientBuilder idleTimeout(long idleTimeout) {
+        endpoint.getEndpointConfiguration().setIdleTimeout(idleTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the validation interval of pooled connections.
+     * @param validationInterval
+     * @return
+     */
+    public FtpClientBuilder validationInterval(long validationInterval) {
+        endpoint.getEndpointConfiguration().setValidationInterval(validationInterval);
+        return this;
+    }
 }
@@ -41,6 +41,15 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
+    /** Maximum number of concurrently open connections */
+    private int maxConnections = 1;
+
+    /** Idle time in milliseconds after that pooled connections get closed */
+    private long idleTimeout = 60000L;
+
+    /** Idle time in milliseconds after that pooled connections get validated before reuse, negative value disables validation */
+    private long validationInterval = 1000L;
+
     /**
      * Gets the ftp host.
      * @return
@@ -120,4 +129,52 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public String getPassword() {
         return password;
     }
+
+    /**
+     * Gets the maximum number of concurrently open connections.
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of concurrently open connections.
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Gets the idle timeout of pooled connections.
+     * @return
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets the idle timeout of pooled connections.
+     * @param idleTimeout
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Gets the validation interval of pooled connections.
+     * @return
+     */
+    public long getValidationInterval() {
+        return validationInterval;
+    }
+
+    /**
+     * Sets the validation interval of pooled connections.
+     * @param validationInterval
+     */
+    public void setValidationInterval(long validationInterval) {
+        this.validationInterval = validationInterval;
+    }
 }
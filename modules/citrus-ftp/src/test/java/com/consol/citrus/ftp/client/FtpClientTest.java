@@ -141,6 +141,39 @@ public class FtpClientTest extends AbstractTestNGUnitTest {
         verify(apacheFtpClient).connect("localhost", 22222);
     }
 
+    @Test
+    public void testPooledConnectionValidation() throws Exception {
+        FtpEndpointConfiguration endpointConfiguration = new FtpEndpointConfiguration();
+        endpointConfiguration.setValidationInterval(0L);
+        FtpClient ftpClient = new FtpClient(endpointConfiguration);
+        ftpClient.setFtpClient(apacheFtpClient);
+
+        reset(apacheFtpClient);
+
+        when(apacheFtpClient.isConnected())
+                .thenReturn(false)
+                .thenReturn(true)
+                .thenReturn(true)
+                .thenReturn(false);
+
+        when(apacheFtpClient.getReplyString()).thenReturn("OK");
+        when(apacheFtpClient.getReplyCode()).thenReturn(200);
+        when(apacheFtpClient.sendNoOp()).thenReturn(false);
+        when(apacheFtpClient.sendCommand(FTPCmd.PWD, null)).thenReturn(200);
+
+        ftpClient.send(new FtpMessage(FTPCmd.PWD, null), context);
+        Assert.assertEquals(ftpClient.getConnectionCount(), 1);
+        Assert.assertEquals(ftpClient.getIdleConnectionCount(), 1);
+
+        ftpClient.send(new FtpMessage(FTPCmd.PWD, null), context);
+        Assert.assertEquals(ftpClient.getConnectionCount(), 1);
+        Assert.assertEquals(ftpClient.getIdleConnectionCount(), 1);
+
+        verify(apacheFtpClient).sendNoOp();
+        verify(apacheFtpClient).disconnect();
+        verify(apacheFtpClient, times(2)).connect("localhost", 22222);
+    }
+
     @Test(expectedExceptions = CitrusRuntimeException.class)
     public void testCommandWithUserLoginFailed() throws Exception {
         FtpEndpointConfiguration endpointConfiguration = new FtpEndpointConfiguration();
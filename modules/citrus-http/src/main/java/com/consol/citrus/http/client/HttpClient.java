@@ -26,22 +26,28 @@ import com.consol.citrus.message.*;
 import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
+import com.consol.citrus.util.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.*;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.CollectionUtils;
-import org.springframework.web.client.DefaultResponseErrorHandler;
-import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.*;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.*;
 
 /**
  * Http client sends messages via Http protocol to some Http server instance, defined by a request endpoint url. Synchronous response
  * messages are cached in local memory and receive operations are able to fetch responses from this cache later on.
  *
+ * In asynchronous mode send operations return immediately while the request is executed on a background thread using
+ * the pooled connections of the request factory. The response completes the pending correlation entry as soon as it arrives
+ * and receive operations wait for that entry.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -52,6 +58,21 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Pending asynchronous responses by correlation key */
+    private final Map<String, PendingResponse> pendingResponses = new ConcurrentHashMap<>();
+
+    /** Error handler of synchronous request executed on current thread */
+    private final ThreadLocal<ResponseErrorHandler> requestErrorHandler = new ThreadLocal<>();
+
+    /** Rest template error handler delegating to the error handler of the current request */
+    private final ResponseErrorHandler responseErrorHandler = new RequestResponseErrorHandler();
+
+    /** Limits the number of asynchronous requests in flight */
+    private Semaphore inFlightPermits;
+
+    /** Executes asynchronous requests */
+    private ExecutorService asyncExecutor;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -113,14 +134,140 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
         HttpEntity<?> requestEntity = getEndpointConfiguration().getMessageConverter().convertOutbound(httpMessage, getEndpointConfiguration(), context);
 
-        getEndpointConfiguration().getRestTemplate().setErrorHandler(new InternalResponseErrorHandler(correlationKey, context));
-        ResponseEntity<?> response = getEndpointConfiguration().getRestTemplate().exchange(endpointUri, method, requestEntity, String.class);
+        if (getEndpointConfiguration().isAsync()) {
+            sendAsync(endpointUri, method, requestEntity, correlationKey, context);
+            return;
+        }
+
+        getEndpointConfiguration().getRestTemplate().setErrorHandler(responseErrorHandler);
+        requestErrorHandler.set(new InternalResponseErrorHandler(correlationKey, context));
+        ResponseEntity<?> response;
+        try {
+            response = getEndpointConfiguration().getRestTemplate().exchange(endpointUri, method, requestEntity, String.class);
+        } finally {
+            requestErrorHandler.remove();
+        }
 
         log.info("HTTP message was sent to endpoint: '" + endpointUri + "'");
 
         correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
     }
 
+    /**
+     * Executes request on background thread and completes pending response for given correlation key
+     * as soon as response has arrived. Blocks when maximum number of requests in flight is reached.
+     * @param endpointUri
+     * @param method
+     * @param requestEntity
+     * @param correlationKey
+     * @param context
+     */
+    private void sendAsync(final String endpointUri, final HttpMethod method, final HttpEntity<?> requestEntity,
+                           final String correlationKey, final TestContext context) {
+        final Semaphore permits = getInFlightPermits();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for free asynchronous request slot", e);
+        }
+
+        evictPendingResponses();
+
+        final PendingResponse pendingResponse = new PendingResponse();
+        pendingResponses.put(correlationKey, pendingResponse);
+
+        final RestTemplate restTemplate = getEndpointConfiguration().getRestTemplate();
+        restTemplate.setErrorHandler(responseErrorHandler);
+
+        try {
+            getAsyncExecutor().execute(() -> {
+                try {
+                    ResponseEntity<?> response = restTemplate.exchange(endpointUri, method, requestEntity, String.class);
+                    pendingResponse.complete(getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
+                } catch (HttpStatusCodeException e) {
+                    if (getEndpointConfiguration().getErrorHandlingStrategy().equals(ErrorHandlingStrategy.PROPAGATE)) {
+                        pendingResponse.complete(getEndpointConfiguration().getMessageConverter().convertInbound(
+                                new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode()), getEndpointConfiguration(), context));
+                    } else {
+                        pendingResponse.completeExceptionally(e);
+                    }
+                } catch (RuntimeException e) {
+                    pendingResponse.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingResponses.remove(correlationKey, pendingResponse);
+            permits.release();
+            throw new CitrusRuntimeException("Failed to execute asynchronous HTTP request", e);
+        }
+
+        log.info("HTTP message was sent asynchronously to endpoint: '" + endpointUri + "'");
+    }
+
+    /**
+     * Removes completed asynchronous responses that have not been received within the endpoint timeout.
+     */
+    private void evictPendingResponses() {
+        long expiry = System.currentTimeMillis() - getEndpointConfiguration().getTimeout();
+        for (Map.Entry<String, PendingResponse> entry : pendingResponses.entrySet()) {
+            PendingResponse pendingResponse = entry.getValue();
+            if (pendingResponse.isDone() && pendingResponse.completedAt < expiry
+                    && pendingResponses.remove(entry.getKey(), pendingResponse)) {
+                log.warn(String.format("Discarding asynchronous HTTP response '%s' - response was not received in time", entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Waits for pending asynchronous response.
+     * @param pendingResponse
+     * @param timeout
+     * @return
+     */
+    private Message waitForResponse(CompletableFuture<Message> pendingResponse, long timeout) {
+        try {
+            return pendingResponse.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException("Action timeout while receiving asynchronous reply message from http server");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for asynchronous reply message from http server", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException("Failed to receive asynchronous reply message from http server", e.getCause());
+        }
+    }
+
+    /**
+     * Gets the semaphore limiting the number of asynchronous requests in flight.
+     * @return
+     */
+    private synchronized Semaphore getInFlightPermits() {
+        if (inFlightPermits == null) {
+            inFlightPermits = new Semaphore(Math.max(1, getEndpointConfiguration().getMaxInFlight()));
+        }
+
+        return inFlightPermits;
+    }
+
+    /**
+     * Gets the executor for asynchronous requests. By default uses the shared Citrus worker executor.
+     * @return
+     */
+    private synchronized ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            asyncExecutor = ThreadUtils.getWorkerExecutor();
+        }
+
+        return asyncExecutor;
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -140,6 +287,11 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
+        PendingResponse pendingResponse = pendingResponses.remove(selector);
+        if (pendingResponse != null) {
+            return waitForResponse(pendingResponse, timeout);
+        }
+
         Message message = correlationManager.find(selector, timeout);
 
         if (message == null) {
@@ -149,6 +301,47 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         return message;
     }
 
+    /**
+     * Pending asynchronous response remembering its completion time.
+     */
+    private static final class PendingResponse extends CompletableFuture<Message> {
+        private volatile long completedAt;
+
+        @Override
+        public boolean complete(Message value) {
+            completedAt = System.currentTimeMillis();
+            return super.complete(value);
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable ex) {
+            completedAt = System.currentTimeMillis();
+            return super.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Error handler delegating to the synchronous request error handler bound to the current thread. Asynchronous requests
+     * have no bound handler and use default error handling so concurrent requests never see each others error handler.
+     */
+    private class RequestResponseErrorHandler implements ResponseErrorHandler {
+
+        @Override
+        public boolean hasError(ClientHttpResponse response) throws IOException {
+            return getDelegate().hasError(response);
+        }
+
+        @Override
+        public void handleError(ClientHttpResponse response) throws IOException {
+            getDelegate().handleError(response);
+        }
+
+        private ResponseErrorHandler getDelegate() {
+            ResponseErrorHandler delegate = requestErrorHandler.get();
+            return delegate != null ? delegate : new DefaultResponseErrorHandler();
+        }
+    }
+
     /**
      * Handles error response messages constructing a proper response message
      * which will be propagated to the respective reply handler for
@@ -215,6 +408,14 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         return this;
     }
 
+    /**
+     * Sets the executor service used to execute asynchronous requests.
+     * @param asyncExecutor
+     */
+    public synchronized void setAsyncExecutor(ExecutorService asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
     /**
      * Sets the correlation manager.
      * @param correlationManager
@@ -207,4 +207,54 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Enables asynchronous request mode.
+     * @param async
+     * @return
+     */
+    public HttpClientBuilder async(boolean async) {
+        endpoint.getEndpointConfiguration().setAsync(async);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests in flight.
+     * @param maxInFlight
+     * @return
+     */
+    public HttpClientBuilder maxInFlight(int maxInFlight) {
+        endpoint.getEndpointConfiguration().setMaxInFlight(maxInFlight);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections.
+     * @param maxConnections
+     * @return
+     */
+    public HttpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxConnectionsPerRoute
+     * @return
+     */
+    public HttpClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Sets the keep alive connection reuse.
+     * @param keepAlive
+     * @return
+     */
+    public HttpClientBuilder keepAlive(boolean keepAlive) {
+        endpoint.getEndpointConfiguration().setKeepAlive(keepAlive);
+        return this;
+    }
 }
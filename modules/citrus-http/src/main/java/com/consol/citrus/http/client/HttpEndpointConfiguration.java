@@ -21,6 +21,12 @@ import com.consol.citrus.endpoint.resolver.DynamicEndpointUriResolver;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.*;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.*;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.*;
@@ -76,6 +82,24 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     /** Auto add default accept header with os supported content-types */
     private boolean defaultAcceptHeader = true;
 
+    /** Send requests asynchronously, receive operations wait for the response to arrive */
+    private boolean async = false;
+
+    /** Maximum number of asynchronous requests in flight */
+    private int maxInFlight = 100;
+
+    /** Maximum number of pooled connections in default request factory */
+    private int maxConnections = 20;
+
+    /** Maximum number of pooled connections per route in default request factory */
+    private int maxConnectionsPerRoute = 20;
+
+    /** Connection limits explicitly set - otherwise http.maxConnections system property is used when present */
+    private boolean maxConnectionsConfigured = false;
+
+    /** Reuse persistent connections in default request factory */
+    private boolean keepAlive = true;
+
     /**
      * Get the complete request URL.
      * @return the urlPath
@@ -256,7 +280,32 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public ClientHttpRequestFactory getRequestFactory() {
         if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory();
+            // use system socket factory as client builder ignores system SSL settings once connection manager is set
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                    RegistryBuilder.<ConnectionSocketFactory>create()
+                            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                            .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+                            .build());
+
+            String systemMaxConnections = System.getProperty("http.maxConnections");
+            if (!maxConnectionsConfigured && systemMaxConnections != null) {
+                int max = Integer.parseInt(systemMaxConnections);
+                connectionManager.setMaxTotal(2 * max);
+                connectionManager.setDefaultMaxPerRoute(max);
+            } else {
+                connectionManager.setMaxTotal(maxConnections);
+                connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+            }
+
+            org.apache.http.impl.client.HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                    .useSystemProperties()
+                    .setConnectionManager(connectionManager);
+
+            if (!keepAlive) {
+                httpClientBuilder.setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
+            }
+
+            requestFactory = new HttpComponentsClientHttpRequestFactory(httpClientBuilder.build());
         }
 
         return requestFactory;
@@ -303,4 +352,98 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     public boolean isDefaultAcceptHeader() {
         return defaultAcceptHeader;
     }
+
+    /**
+     * Gets the async property.
+     *
+     * @return the async
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Sets the async property. When enabled send operations return immediately and
+     * the response is correlated as soon as it arrives.
+     *
+     * @param async
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Gets the maxInFlight property.
+     *
+     * @return the maxInFlight
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests in flight. Send operations block
+     * as soon as this limit is reached.
+     *
+     * @param maxInFlight
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Gets the maxConnections property.
+     *
+     * @return the maxConnections
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections used by the default request factory.
+     *
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsConfigured = true;
+    }
+
+    /**
+     * Gets the maxConnectionsPerRoute property.
+     *
+     * @return the maxConnectionsPerRoute
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route used by the default request factory.
+     *
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.maxConnectionsConfigured = true;
+    }
+
+    /**
+     * Gets the keepAlive property.
+     *
+     * @return the keepAlive
+     */
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the keepAlive property. When disabled the default request factory closes connections after each request.
+     *
+     * @param keepAlive
+     */
+    public void setKeepAlive(boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
 }
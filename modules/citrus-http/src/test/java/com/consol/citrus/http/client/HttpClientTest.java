@@ -32,6 +32,8 @@ import org.testng.annotations.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 
@@ -532,4 +534,72 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
         verify(restTemplate).setInterceptors(any(List.class));
         verify(restTemplate).setErrorHandler(any(ResponseErrorHandler.class));
     }
+
+    @Test
+    public void testAsyncHttpRequest() throws Exception {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setAsync(true);
+        endpointConfiguration.setMaxInFlight(2);
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        final String responseBody = "<TestResponse><Message>Hello World!</Message></TestResponse>";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+
+        Message requestMessage = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        final CountDownLatch responseLatch = new CountDownLatch(1);
+        doAnswer(new Answer<ResponseEntity<String>>() {
+            @Override
+            public ResponseEntity<String> answer(InvocationOnMock invocation) throws Throwable {
+                Assert.assertTrue(responseLatch.await(5000L, TimeUnit.MILLISECONDS));
+                return new ResponseEntity<String>(responseBody, HttpStatus.OK);
+            }
+        }).when(restTemplate).exchange(eq(requestUrl), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        httpClient.send(requestMessage, context);
+        responseLatch.countDown();
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(responseMessage.getPayload(), responseBody);
+        Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.OK);
+
+        verify(restTemplate).setInterceptors(any(List.class));
+    }
+
+    @Test
+    public void testAsyncErrorResponseExceptionStrategy() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setAsync(true);
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+
+        endpointConfiguration.setErrorHandlingStrategy(ErrorHandlingStrategy.THROWS_EXCEPTION);
+
+        Message requestMessage = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        doThrow(new HttpClientErrorException(HttpStatus.FORBIDDEN)).when(restTemplate).exchange(eq(requestUrl), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        httpClient.send(requestMessage, context);
+
+        try {
+            httpClient.receive(context, 5000L);
+            Assert.fail("Missing exception due to http error status code");
+        } catch (HttpClientErrorException e) {
+            Assert.assertEquals(e.getMessage(), "403 FORBIDDEN");
+        }
+    }
 }
@@ -20,6 +20,8 @@ import com.consol.citrus.container.*;
 import com.consol.citrus.dsl.design.TestDesigner;
 import com.consol.citrus.dsl.runner.TestRunner;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * @author Christoph Deppisch
  * @since 2.3
@@ -60,4 +62,34 @@ public class ParallelBuilder extends AbstractTestContainerBuilder<Parallel> {
         this(runner, new Parallel());
     }
 
+    /**
+     * Sets the executor service running the nested actions, e.g. a fixed thread pool,
+     * fork join pool or virtual thread executor.
+     * @param executorService
+     * @return
+     */
+    public ParallelBuilder executor(ExecutorService executorService) {
+        action.setExecutorService(executorService);
+        return this;
+    }
+
+    /**
+     * Limits the number of concurrently running nested actions.
+     * @param maxConcurrency
+     * @return
+     */
+    public ParallelBuilder maxConcurrency(int maxConcurrency) {
+        action.setMaxConcurrency(maxConcurrency);
+        return this;
+    }
+
+    /**
+     * Cancel all other nested actions as soon as one of the actions has failed.
+     * @param failFast
+     * @return
+     */
+    public ParallelBuilder failFast(boolean failFast) {
+        action.setFailFast(failFast);
+        return this;
+    }
 }
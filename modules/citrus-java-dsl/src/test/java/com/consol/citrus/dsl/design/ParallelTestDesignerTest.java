@@ -51,6 +51,29 @@ public class ParallelTestDesignerTest extends AbstractTestNGUnitTest {
         assertEquals(container.getTestAction(0).getClass(), EchoAction.class);
     }
 
+    @Test
+    public void testParallelBuilderConcurrencySettings() {
+        MockTestDesigner builder = new MockTestDesigner(applicationContext, context) {
+            @Override
+            public void configure() {
+                parallel()
+                    .maxConcurrency(2)
+                    .failFast(true)
+                    .actions(echo("1.0"), echo("2.0"), echo("3.0"));
+            }
+        };
+
+        builder.configure();
+
+        TestCase test = builder.getTestCase();
+        assertEquals(test.getActionCount(), 1);
+
+        Parallel container = (Parallel)test.getActions().get(0);
+        assertEquals(container.getActionCount(), 3);
+        assertEquals(container.getMaxConcurrency(), 2);
+        assertEquals(container.isFailFast(), true);
+    }
+
     @Test
     public void testParallelBuilderNestedContainers() {
         MockTestDesigner builder = new MockTestDesigner(applicationContext, context) {
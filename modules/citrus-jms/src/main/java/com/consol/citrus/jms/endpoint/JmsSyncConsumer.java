@@ -26,8 +26,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jms.core.MessageCreator;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import javax.jms.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Christoph Deppisch
@@ -38,6 +41,9 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
     /** Map of reply destinations */
     private CorrelationManager<Destination> correlationManager;
 
+    /** Reply correlation ids of received requests by message correlation key */
+    private final Map<String, String> replyCorrelationIds = new ConcurrentHashMap<>();
+
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
@@ -85,11 +91,18 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
             log.debug("Sending JMS message to destination: '" + getDestinationName(replyDestination) + "'");
         }
 
+        final String replyCorrelationId = replyCorrelationIds.remove(correlationKey);
+
         endpointConfiguration.getJmsTemplate().send(replyDestination, new MessageCreator() {
             @Override
             public javax.jms.Message createMessage(Session session) throws JMSException {
                 javax.jms.Message jmsMessage = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
                 endpointConfiguration.getMessageConverter().convertOutbound(jmsMessage, message, endpointConfiguration, context);
+
+                if (replyCorrelationId != null && !StringUtils.hasText(jmsMessage.getJMSCorrelationID())) {
+                    jmsMessage.setJMSCorrelationID(replyCorrelationId);
+                }
+
                 return jmsMessage;
             }
         });
@@ -101,7 +114,8 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
 
     /**
      * Store the reply destination either straight forward or with a given
-     * message correlation key.
+     * message correlation key. Also saves the request correlation id (or message id) that is set as
+     * JMSCorrelationID on the reply message.
      *
      * @param jmsMessage
      * @param context
@@ -112,6 +126,11 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
             String correlationKey = endpointConfiguration.getCorrelator().getCorrelationKey(jmsMessage);
             correlationManager.saveCorrelationKey(correlationKeyName, correlationKey, context);
             correlationManager.store(correlationKey, jmsMessage.getReplyTo());
+
+            String replyCorrelationId = StringUtils.hasText(jmsMessage.getCorrelationId()) ? jmsMessage.getCorrelationId() : jmsMessage.getMessageId();
+            if (replyCorrelationId != null) {
+                replyCorrelationIds.put(correlationKey, replyCorrelationId);
+            }
         }  else {
             log.warn("Unable to retrieve reply to destination for message \n" +
                     jmsMessage + "\n - no reply to destination found in message headers!");
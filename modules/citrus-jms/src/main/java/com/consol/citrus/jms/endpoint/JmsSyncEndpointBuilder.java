@@ -157,4 +157,14 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Enables pooled sessions, producers and shared reply consumer.
+     * @param pooled
+     * @return
+     */
+    public JmsSyncEndpointBuilder pooled(boolean pooled) {
+        endpoint.getEndpointConfiguration().setPooled(pooled);
+        return this;
+    }
 }
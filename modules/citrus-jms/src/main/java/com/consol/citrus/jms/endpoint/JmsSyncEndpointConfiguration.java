@@ -43,6 +43,9 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /** Reuse pooled sessions, producers and a shared reply consumer */
+    private boolean pooled = false;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +110,20 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the pooled mode.
+     * @return the pooled
+     */
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    /**
+     * Enables pooled mode reusing sessions, message producers and a shared reply consumer
+     * on a temporary reply destination.
+     * @param pooled the pooled to set
+     */
+    public void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
 }
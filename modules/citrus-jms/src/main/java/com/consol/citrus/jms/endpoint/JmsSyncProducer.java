@@ -32,8 +32,16 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import javax.jms.*;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Synchronous JMS producer sends request messages and waits for the reply message. In pooled mode the producer keeps
+ * sessions and message producers in a pool and uses a single shared reply consumer on a temporary reply destination.
+ * Reply messages are correlated to requests by the request JMSCorrelationID or, when not set, by the request JMSMessageID
+ * so many requests may be outstanding at once.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -48,6 +56,30 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Resolves destination names */
+    private final DynamicDestinationResolver destinationResolver = new DynamicDestinationResolver();
+
+    /** Idle pooled sessions with message producer on default destination */
+    private final BlockingQueue<PooledSession> sessionPool = new LinkedBlockingQueue<>();
+
+    /** Pending reply messages by JMS correlation id */
+    private final ConcurrentMap<String, CompletableFuture<javax.jms.Message>> pendingReplies = new ConcurrentHashMap<>();
+
+    /** Number of pooled requests currently being sent, their pending reply is not registered yet */
+    private final AtomicInteger sendsInProgress = new AtomicInteger();
+
+    /** Replies that arrived while requests were being sent, kept until the request registers its pending reply */
+    private final ConcurrentMap<String, EarlyReply> earlyReplies = new ConcurrentHashMap<>();
+
+    /** Session of shared reply consumer */
+    private Session replySession;
+
+    /** Shared reply consumer */
+    private MessageConsumer replyConsumer;
+
+    /** Shared temporary reply destination */
+    private Destination sharedReplyDestination;
+
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
@@ -81,6 +113,11 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
         context.onOutboundMessage(message);
 
+        if (endpointConfiguration.isPooled() && !hasReplyDestination(message)) {
+            sendPooled(message, correlationKey, context);
+            return;
+        }
+
         MessageProducer messageProducer = null;
         MessageConsumer messageConsumer = null;
         Destination replyToDestination = null;
@@ -132,6 +169,203 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Sends request message with pooled session and producer and waits for reply message on shared reply consumer.
+     * Reply is correlated by the request JMSCorrelationID when set, otherwise by the request JMSMessageID.
+     * @param message
+     * @param correlationKey
+     * @param context
+     */
+    private void sendPooled(Message message, String correlationKey, TestContext context) {
+        PooledSession pooledSession = null;
+        String replyCorrelationId = null;
+        CompletableFuture<javax.jms.Message> pendingReply = new CompletableFuture<>();
+
+        try {
+            createConnection();
+            Destination replyToDestination = getSharedReplyDestination();
+
+            pooledSession = borrowSession();
+            javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, pooledSession.getSession(), endpointConfiguration, context);
+            endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
+
+            jmsRequest.setJMSReplyTo(replyToDestination);
+
+            sendsInProgress.incrementAndGet();
+            try {
+                pooledSession.getProducer().send(jmsRequest);
+
+                replyCorrelationId = StringUtils.hasText(jmsRequest.getJMSCorrelationID()) ? jmsRequest.getJMSCorrelationID() : jmsRequest.getJMSMessageID();
+                pendingReplies.put(replyCorrelationId, pendingReply);
+            } finally {
+                sendsInProgress.decrementAndGet();
+            }
+
+            EarlyReply earlyReply = earlyReplies.remove(replyCorrelationId);
+            if (earlyReply != null) {
+                pendingReply.complete(earlyReply.getMessage());
+            }
+
+            sessionPool.offer(pooledSession);
+            pooledSession = null;
+
+            log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDefaultDestinationName());
+            log.debug("Receiving reply message on destination: '{}'", replyToDestination);
+
+            javax.jms.Message jmsReplyMessage = waitForReply(pendingReply);
+
+            Message responseMessage = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
+
+            log.info("Received reply message on JMS destination: '{}'", replyToDestination);
+
+            context.onInboundMessage(responseMessage);
+
+            correlationManager.store(correlationKey, responseMessage);
+        } catch (JMSException e) {
+            if (pooledSession != null) {
+                pooledSession.close();
+                pooledSession = null;
+            }
+
+            throw new CitrusRuntimeException(e);
+        } finally {
+            if (pooledSession != null) {
+                sessionPool.offer(pooledSession);
+            }
+
+            if (replyCorrelationId != null) {
+                pendingReplies.remove(replyCorrelationId, pendingReply);
+            }
+        }
+    }
+
+    /**
+     * Waits for pending reply message with configured timeout. Non positive timeout waits without limit.
+     * @param pendingReply
+     * @return
+     */
+    private javax.jms.Message waitForReply(CompletableFuture<javax.jms.Message> pendingReply) {
+        try {
+            return endpointConfiguration.getTimeout() > 0 ? pendingReply.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS) : pendingReply.get();
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException("Reply timed out after " +
+                    endpointConfiguration.getTimeout() + "ms. Did not receive reply message on reply destination");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for reply message", e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to receive reply message", e.getCause());
+        }
+    }
+
+    /**
+     * Handles reply message on shared reply consumer and completes pending reply with same correlation id. Replies
+     * without pending reply are kept for a limited time when requests are being sent right now, as the reply may
+     * arrive before the request has registered its pending reply. All other replies are ignored.
+     * @param jmsReplyMessage
+     */
+    private void onReplyMessage(javax.jms.Message jmsReplyMessage) {
+        try {
+            String correlationId = jmsReplyMessage.getJMSCorrelationID();
+            if (correlationId == null) {
+                log.warn("Ignoring reply message without JMSCorrelationID on shared reply destination");
+                return;
+            }
+
+            CompletableFuture<javax.jms.Message> pendingReply = pendingReplies.get(correlationId);
+            if (pendingReply != null) {
+                pendingReply.complete(jmsReplyMessage);
+                return;
+            }
+
+            evictEarlyReplies();
+            if (sendsInProgress.get() > 0) {
+                earlyReplies.put(correlationId, new EarlyReply(jmsReplyMessage));
+
+                pendingReply = pendingReplies.get(correlationId);
+                if (pendingReply != null && earlyReplies.remove(correlationId) != null) {
+                    pendingReply.complete(jmsReplyMessage);
+                }
+            } else if ((pendingReply = pendingReplies.get(correlationId)) != null) {
+                pendingReply.complete(jmsReplyMessage);
+            } else {
+                log.warn(String.format("Ignoring reply message with unknown JMSCorrelationID '%s' on shared reply destination", correlationId));
+            }
+        } catch (JMSException e) {
+            log.error("Failed to handle reply message on shared reply destination", e);
+        }
+    }
+
+    /**
+     * Removes early replies that have not been claimed by a request within the reply timeout.
+     */
+    private void evictEarlyReplies() {
+        long maxAge = endpointConfiguration.getTimeout() > 0 ? endpointConfiguration.getTimeout() : 60000L;
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<String, EarlyReply> entry : earlyReplies.entrySet()) {
+            if (now - entry.getValue().getReceived() > maxAge) {
+                earlyReplies.remove(entry.getKey(), entry.getValue());
+                log.warn(String.format("Ignoring reply message with unknown JMSCorrelationID '%s' on shared reply destination", entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Gets the shared temporary reply destination. Creates reply consumer session and registers reply message listener
+     * on first access.
+     * @return
+     * @throws JMSException
+     */
+    private synchronized Destination getSharedReplyDestination() throws JMSException {
+        if (sharedReplyDestination == null) {
+            replySession = openSession(connection);
+
+            if (endpointConfiguration.isPubSubDomain() && replySession instanceof TopicSession) {
+                sharedReplyDestination = replySession.createTemporaryTopic();
+            } else {
+                sharedReplyDestination = replySession.createTemporaryQueue();
+            }
+
+            replyConsumer = replySession.createConsumer(sharedReplyDestination);
+            replyConsumer.setMessageListener(this::onReplyMessage);
+        }
+
+        return sharedReplyDestination;
+    }
+
+    /**
+     * Takes idle session from pool or opens a new session with message producer on default destination.
+     * @return
+     * @throws JMSException
+     */
+    private PooledSession borrowSession() throws JMSException {
+        PooledSession pooledSession = sessionPool.poll();
+
+        if (pooledSession == null) {
+            Session pooled = openSession(connection);
+            try {
+                pooledSession = new PooledSession(pooled, pooled.createProducer(getDefaultDestination(pooled)));
+            } catch (JMSException e) {
+                JmsUtils.closeSession(pooled);
+                throw e;
+            }
+        }
+
+        return pooledSession;
+    }
+
+    /**
+     * Checks if message or endpoint configuration defines explicit reply destination.
+     * @param message
+     * @return
+     */
+    private boolean hasReplyDestination(Message message) {
+        return message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) != null ||
+                endpointConfiguration.getReplyDestination() != null ||
+                StringUtils.hasText(endpointConfiguration.getReplyDestinationName());
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -165,7 +399,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * @return connection
      * @throws JMSException
      */
-    protected void createConnection() throws JMSException {
+    protected synchronized void createConnection() throws JMSException {
         if (connection == null) {
             if (!endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof QueueConnectionFactory) {
                 connection = ((QueueConnectionFactory) endpointConfiguration.getConnectionFactory()).createQueueConnection();
@@ -191,16 +425,26 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      */
     protected void createSession(Connection connection) throws JMSException {
         if (session == null) {
-            if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
-                session = ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
-                session = ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else {
-                log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
-                        " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+            session = openSession(connection);
+        }
+    }
 
-                session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-            }
+    /**
+     * Opens new JMS session on given connection.
+     * @param connection
+     * @return
+     * @throws JMSException
+     */
+    private Session openSession(Connection connection) throws JMSException {
+        if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
+            return ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
+            return ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else {
+            log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
+                    " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+
+            return connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
         }
     }
 
@@ -297,13 +541,28 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * @return
      */
     private Destination resolveDestinationName(String name, Session session) throws JMSException {
-        return new DynamicDestinationResolver().resolveDestinationName(session, name, endpointConfiguration.isPubSubDomain());
+        return destinationResolver.resolveDestinationName(session, name, endpointConfiguration.isPubSubDomain());
     }
 
     /**
      * Destroy method closing JMS session and connection
      */
     public void destroy() {
+        PooledSession pooledSession;
+        while ((pooledSession = sessionPool.poll()) != null) {
+            pooledSession.close();
+        }
+
+        synchronized (this) {
+            JmsUtils.closeMessageConsumer(replyConsumer);
+            deleteTemporaryDestination(sharedReplyDestination);
+            JmsUtils.closeSession(replySession);
+
+            replyConsumer = null;
+            sharedReplyDestination = null;
+            replySession = null;
+        }
+
         JmsUtils.closeSession(session);
 
         if (connection != null) {
@@ -326,4 +585,78 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void setCorrelationManager(CorrelationManager<Message> correlationManager) {
         this.correlationManager = correlationManager;
     }
+
+    /**
+     * Reply message that arrived before its request registered the pending reply.
+     */
+    private static final class EarlyReply {
+        private final javax.jms.Message message;
+        private final long received = System.currentTimeMillis();
+
+        /**
+         * Constructor using reply message.
+         * @param message
+         */
+        EarlyReply(javax.jms.Message message) {
+            this.message = message;
+        }
+
+        /**
+         * Gets the reply message.
+         * @return
+         */
+        javax.jms.Message getMessage() {
+            return message;
+        }
+
+        /**
+         * Gets the time the reply was received.
+         * @return
+         */
+        long getReceived() {
+            return received;
+        }
+    }
+
+    /**
+     * Pooled JMS session with message producer on default destination.
+     */
+    private static final class PooledSession {
+        private final Session session;
+        private final MessageProducer producer;
+
+        /**
+         * Constructor using session and producer.
+         * @param session
+         * @param producer
+         */
+        PooledSession(Session session, MessageProducer producer) {
+            this.session = session;
+            this.producer = producer;
+        }
+
+        /**
+         * Gets the session.
+         * @return
+         */
+        Session getSession() {
+            return session;
+        }
+
+        /**
+         * Gets the producer.
+         * @return
+         */
+        MessageProducer getProducer() {
+            return producer;
+        }
+
+        /**
+         * Closes producer and session.
+         */
+        void close() {
+            JmsUtils.closeMessageProducer(producer);
+            JmsUtils.closeSession(session);
+        }
+    }
 }
@@ -18,17 +18,24 @@ package com.consol.citrus.jms.endpoint;
 
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.jms.message.JmsMessage;
 import com.consol.citrus.message.*;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.ObjectStore;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessageCreator;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.jms.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.mockito.Mockito.*;
 
@@ -151,6 +158,173 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
         verify(tempReplyQueue).delete();
     }
 
+    @Test
+    public void testSendMessagePooled() throws Exception {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setPooled(true);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        final TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() throws JMSException {
+                return "123456789";
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        final MessageListener[] replyListener = new MessageListener[1];
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                replyListener[0] = (MessageListener) invocation.getArguments()[0];
+                return null;
+            }
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                Assert.assertEquals(((javax.jms.Message) invocation.getArguments()[0]).getJMSReplyTo(), tempReplyQueue);
+                replyListener[0].onMessage(jmsResponse);
+                return null;
+            }
+        }).when(messageProducer).send(any(javax.jms.Message.class));
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(new Answer<TextMessage>() {
+            @Override
+            public TextMessage answer(InvocationOnMock invocation) throws Throwable {
+                return new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>());
+            }
+        });
+
+        endpoint.createProducer().send(message, context);
+        Assert.assertEquals(((JmsSyncProducer) endpoint.createProducer()).receive(context, 1000L).getPayload(), "<TestResponse>Hello World!</TestResponse>");
+
+        endpoint.createProducer().send(message, context);
+        Assert.assertEquals(((JmsSyncProducer) endpoint.createProducer()).receive(context, 1000L).getPayload(), "<TestResponse>Hello World!</TestResponse>");
+
+        verify(connection).start();
+        verify(session, times(1)).createTemporaryQueue();
+        verify(session, times(1)).createProducer(destination);
+        verify(messageProducer, times(2)).send(any(javax.jms.Message.class));
+        verify(messageProducer, never()).close();
+
+        endpoint.destroy();
+
+        verify(messageProducer).close();
+        verify(tempReplyQueue).delete();
+    }
+
+    @Test
+    public void testSendMessagePooledWithSyncConsumer() throws Exception {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.setName("pooledClient");
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setPooled(true);
+        endpoint.getEndpointConfiguration().setDestination(destination);
+
+        final JmsTemplate serverTemplate = Mockito.mock(JmsTemplate.class);
+        final JmsSyncEndpoint serverEndpoint = new JmsSyncEndpoint();
+        serverEndpoint.setName("syncServer");
+        serverEndpoint.getEndpointConfiguration().setJmsTemplate(serverTemplate);
+        final JmsSyncConsumer serverConsumer = (JmsSyncConsumer) serverEndpoint.createConsumer();
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+        final Message reply = new DefaultMessage("<TestResponse>Hello World!</TestResponse>");
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+
+        final MessageListener[] replyListener = new MessageListener[1];
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                replyListener[0] = (MessageListener) invocation.getArguments()[0];
+                return null;
+            }
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(new Answer<TextMessage>() {
+            @Override
+            public TextMessage answer(InvocationOnMock invocation) throws Throwable {
+                return new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>());
+            }
+        });
+
+        final String[] replyCorrelationId = new String[1];
+        when(session.createTextMessage("<TestResponse>Hello World!</TestResponse>")).thenAnswer(new Answer<TextMessage>() {
+            @Override
+            public TextMessage answer(InvocationOnMock invocation) throws Throwable {
+                return new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+                    @Override
+                    public void setJMSCorrelationID(String correlationID) throws JMSException {
+                        replyCorrelationId[0] = correlationID;
+                    }
+
+                    @Override
+                    public String getJMSCorrelationID() throws JMSException {
+                        return replyCorrelationId[0];
+                    }
+                };
+            }
+        });
+
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                MessageCreator creator = (MessageCreator) invocation.getArguments()[1];
+                replyListener[0].onMessage(creator.createMessage(session));
+                return null;
+            }
+        }).when(serverTemplate).send(eq(tempReplyQueue), any(MessageCreator.class));
+
+        final ExecutorService server = Executors.newSingleThreadExecutor();
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                final javax.jms.Message request = (javax.jms.Message) invocation.getArguments()[0];
+                server.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        Message received = serverEndpoint.getEndpointConfiguration().getMessageConverter()
+                                .convertInbound(request, serverEndpoint.getEndpointConfiguration(), context);
+                        serverConsumer.saveReplyDestination(new JmsMessage(received), context);
+                        serverConsumer.send(reply, context);
+                    }
+                });
+                return null;
+            }
+        }).when(messageProducer).send(any(javax.jms.Message.class));
+
+        try {
+            endpoint.createProducer().send(message, context);
+            Assert.assertEquals(((JmsSyncProducer) endpoint.createProducer()).receive(context, 1000L).getPayload(), "<TestResponse>Hello World!</TestResponse>");
+            Assert.assertEquals(replyCorrelationId[0], "123456789");
+        } finally {
+            server.shutdown();
+            endpoint.destroy();
+        }
+    }
+
     @Test
     @SuppressWarnings("rawtypes")
     public void testSendMessageWithReplyHandler() throws JMSException {
@@ -21,7 +21,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.mail.client.MailEndpointConfiguration;
 import com.consol.citrus.mail.model.*;
 import com.consol.citrus.message.*;
-import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Base64InputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ByteArrayResource;
@@ -231,10 +231,9 @@ public class MailMessageConverter implements MessageConverter<MimeMailMessage, M
      * @throws IOException
      */
     protected BodyPart handleImageBinaryPart(MimePart image, String contentType) throws IOException, MessagingException {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        FileCopyUtils.copy(image.getInputStream(), bos);
-        String base64 = Base64.encodeBase64String(bos.toByteArray());
-        return new BodyPart(base64, contentType);
+        StringWriter base64 = new StringWriter();
+        FileCopyUtils.copy(new InputStreamReader(new Base64InputStream(image.getInputStream(), true, 0, new byte[0]), Charset.forName("US-ASCII")), base64);
+        return new BodyPart(base64.toString(), contentType);
     }
 
     /**
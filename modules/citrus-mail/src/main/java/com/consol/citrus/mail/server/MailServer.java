@@ -24,6 +24,8 @@ import com.consol.citrus.mail.model.*;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.server.AbstractServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.mail.javamail.MimeMailMessage;
 import org.springframework.xml.transform.StringResult;
@@ -36,8 +38,9 @@ import javax.mail.MessagingException;
 import javax.mail.Session;
 import javax.mail.internet.MimeMessage;
 import javax.xml.transform.Source;
-import java.io.InputStream;
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Mail server implementation starts new SMTP server instance and listens for incoming mail messages. Incoming mail messages
@@ -55,6 +58,9 @@ import java.util.*;
  */
 public class MailServer extends AbstractServer implements SimpleMessageListener, InitializingBean {
 
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(MailServer.class);
+
     /** Server port */
     private int port = 25;
 
@@ -79,6 +85,11 @@ public class MailServer extends AbstractServer implements SimpleMessageListener,
     /** Smtp server instance */
     private SMTPServer smtpServer;
 
+    /** Delivery statistics */
+    private final AtomicLong deliveredMessages = new AtomicLong();
+    private final AtomicLong deliveredBytes = new AtomicLong();
+    private final AtomicLong deliveryTime = new AtomicLong();
+
     @Override
     protected void startup() {
         smtpServer = new SMTPServer(new SimpleMessageListenerAdapter(this));
@@ -123,9 +134,13 @@ public class MailServer extends AbstractServer implements SimpleMessageListener,
 
     @Override
     public void deliver(String from, String recipient, InputStream data) {
+        long start = System.nanoTime();
+        CountingInputStream mailData = new CountingInputStream(data);
+
         try {
-            MimeMailMessage mimeMailMessage = new MimeMailMessage(new MimeMessage(getSession(), data));
+            MimeMailMessage mimeMailMessage = new MimeMailMessage(new MimeMessage(getSession(), mailData));
             Message request = messageConverter.convertInbound(mimeMailMessage, getEndpointConfiguration(), null);
+
             Message response = invokeEndpointAdapter(request);
 
             if (response != null && response.getPayload() != null) {
@@ -142,6 +157,16 @@ public class MailServer extends AbstractServer implements SimpleMessageListener,
             }
         } catch (MessagingException e) {
             throw new CitrusRuntimeException(e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            deliveredMessages.incrementAndGet();
+            deliveredBytes.addAndGet(mailData.getCount());
+            deliveryTime.addAndGet(elapsed);
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Delivered mail message with %s bytes in %s ms - overall throughput is %.2f bytes/s",
+                        mailData.getCount(), elapsed / 1000000L, getDeliveryThroughput()));
+            }
         }
     }
 
@@ -352,4 +377,69 @@ public class MailServer extends AbstractServer implements SimpleMessageListener,
     public void setMessageConverter(MailMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the number of delivered mail messages.
+     * @return
+     */
+    public long getDeliveredMessages() {
+        return deliveredMessages.get();
+    }
+
+    /**
+     * Gets the number of bytes read from delivered mail messages.
+     * @return
+     */
+    public long getDeliveredBytes() {
+        return deliveredBytes.get();
+    }
+
+    /**
+     * Gets the average delivery throughput in bytes per second.
+     * @return
+     */
+    public double getDeliveryThroughput() {
+        long time = deliveryTime.get();
+        return time > 0 ? deliveredBytes.get() * 1000000000D / time : 0D;
+    }
+
+    /**
+     * Input stream counting the number of bytes read.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result > 0) {
+                count += result;
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long result = super.skip(n);
+            count += result;
+            return result;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
 }
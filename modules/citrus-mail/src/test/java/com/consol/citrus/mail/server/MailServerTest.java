@@ -186,6 +186,42 @@ public class MailServerTest {
 
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBinaryMessageDeliveryStatistics() throws IOException {
+        MailServer mailServer = new MailServer();
+        mailServer.setEndpointAdapter(endpointAdapterMock);
+
+        reset(endpointAdapterMock);
+
+        doAnswer(new Answer<Message>() {
+            @Override
+            public Message answer(InvocationOnMock invocation) throws Throwable {
+                Message message = (Message) invocation.getArguments()[0];
+
+                Assert.assertEquals(message.getHeader(CitrusMailMessageHeaders.MAIL_SUBJECT), "This is brand_logo.png");
+                Assert.assertEquals(message.getHeader(CitrusMailMessageHeaders.MAIL_CONTENT_TYPE), "multipart/mixed");
+
+                try {
+                    Assert.assertEquals(StringUtils.trimAllWhitespace(message.getPayload(String.class)),
+                            StringUtils.trimAllWhitespace(FileCopyUtils.copyToString(new InputStreamReader(new ClassPathResource("binary_mail.xml",
+                                    MailServer.class).getInputStream()))));
+                } catch (IOException e) {
+                    Assert.fail(e.getMessage());
+                }
+
+                return null;
+            }
+        }).when(endpointAdapterMock).handleMessage(any(Message.class));
+
+        ClassPathResource mailData = new ClassPathResource("binary_mail.txt", MailServer.class);
+        mailServer.deliver("foo@mail.com", "bar@mail.com", mailData.getInputStream());
+
+        verify(endpointAdapterMock).handleMessage(any(Message.class));
+        Assert.assertEquals(mailServer.getDeliveredMessages(), 1L);
+        Assert.assertEquals(mailServer.getDeliveredBytes(), mailData.contentLength());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testAutoAcceptDisabled() throws IOException {
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.vertx.endpoint;
+
+/**
+ * Policy applied when the inbound message queue of a Vert.x consumer subscription is full.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.2
+ */
+public enum OverflowPolicy {
+    /** Pause event bus subscription until queue has free capacity, messages get buffered by Vert.x */
+    PAUSE,
+
+    /** Discard the oldest queued message in favor of the new message */
+    DROP_OLDEST,
+
+    /** Discard the new message */
+    DROP_NEWEST
+}
@@ -18,15 +18,27 @@ package com.consol.citrus.vertx.endpoint;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractMessageConsumer;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+import java.lang.ref.WeakReference;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
+ * Consumer holds a long-lived subscription on the Vert.x event bus address. Inbound messages are queued in a bounded
+ * queue so messages arriving in between two receive operations are not lost. When the queue is full the configured
+ * overflow policy either pauses the subscription (back pressure) or drops messages.
+ *
+ * Subscription is bound to the test context of the first receive operation. When another test context receives
+ * on this consumer the previous subscription is released and its queued messages are discarded, so messages of
+ * previous tests never get returned to later tests.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
@@ -38,12 +50,24 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Endpoint configuration */
     private final VertxEndpointConfiguration endpointConfiguration;
 
+    /** Inbound messages received on event bus subscription */
+    private final BlockingQueue<io.vertx.core.eventbus.Message<Object>> inboundQueue;
+
+    /** Event bus subscription */
+    private MessageConsumer<Object> subscription;
+
+    /** Test context the subscription is bound to */
+    private WeakReference<TestContext> subscriptionContext;
+
+    /** Subscription paused due to full inbound queue */
+    private volatile boolean paused = false;
+
+    /** Number of messages dropped due to full inbound queue */
+    private final AtomicLong droppedMessages = new AtomicLong();
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
-    /** Retry logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
-
     /**
      * Default constructor using endpoint.
      * @param name
@@ -54,6 +78,7 @@ public class VertxConsumer extends AbstractMessageConsumer {
         super(name, endpointConfiguration);
         this.vertx = vertx;
         this.endpointConfiguration = endpointConfiguration;
+        this.inboundQueue = new LinkedBlockingQueue<>(Math.max(1, endpointConfiguration.getQueueCapacity()));
     }
 
     @Override
@@ -62,69 +87,164 @@ public class VertxConsumer extends AbstractMessageConsumer {
             log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
         }
 
-        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler();
-        MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
+        subscribe(context);
+        resumeIfPaused();
 
+        io.vertx.core.eventbus.Message<Object> vertxMessage;
         try {
-            long timeLeft = timeout;
-            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
+            vertxMessage = inboundQueue.poll(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for message on Vert.x event bus", e);
+        } finally {
+            resumeIfPaused();
+        }
 
-            while (message == null && timeLeft > 0) {
-                timeLeft -= endpointConfiguration.getPollingInterval();
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessage, endpointConfiguration, context);
 
-                if (RETRY_LOG.isDebugEnabled()) {
-                    RETRY_LOG.debug(String.format("Waiting for message on Vert.x event bus address '%s' - retrying in %s ms",
-                            endpointConfiguration.getAddress(),
-                            (timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft)));
-                }
+        if (message == null) {
+            throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + endpointConfiguration.getAddress() + "'");
+        }
 
-                try {
-                    Thread.sleep(timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft);
-                } catch (InterruptedException e) {
-                    RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
-                }
+        log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
 
-                message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
+        context.onInboundMessage(message);
+
+        return message;
+    }
+
+    /**
+     * Registers event bus subscription if not already done.
+     */
+    public synchronized void subscribe() {
+        if (subscription == null) {
+            subscription = vertx.eventBus().consumer(endpointConfiguration.getAddress(), this::onMessage);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Subscribed to Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
             }
+        }
+    }
 
-            if (message == null) {
-                throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + endpointConfiguration.getAddress() + "'");
+    /**
+     * Registers event bus subscription for given test context. Subscription bound to another test context is
+     * released first.
+     * @param context
+     */
+    private synchronized void subscribe(TestContext context) {
+        if (subscriptionContext != null && subscriptionContext.get() != context) {
+            if (log.isDebugEnabled()) {
+                log.debug("Release Vert.x event bus subscription of previous test context on address: '" + endpointConfiguration.getAddress() + "'");
             }
 
-            log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+            unsubscribe();
+        }
 
-            context.onInboundMessage(message);
+        subscribe();
 
-            return message;
-        } finally {
-            vertxConsumer.unregister();
+        if (subscriptionContext == null) {
+            subscriptionContext = new WeakReference<>(context);
         }
     }
 
     /**
-     * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
-     * until subscription is unregistered automatically.
+     * Unregisters event bus subscription and discards all queued messages.
      */
-    private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
-
-        @Override
-        public void handle(io.vertx.core.eventbus.Message event) {
-            if (message == null) {
-                this.message = event;
-            } else {
-                log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
-                log.debug("Vert.x message ignored is " + event);
+    public synchronized void unsubscribe() {
+        subscriptionContext = null;
+
+        if (subscription != null) {
+            subscription.unregister();
+            subscription = null;
+            paused = false;
+
+            if (log.isDebugEnabled()) {
+                log.debug("Unsubscribed from Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
             }
         }
 
-        /**
-         * Gets the vert.x message received on event bus.
-         * @return
-         */
-        public io.vertx.core.eventbus.Message getMessage() {
-            return message;
+        inboundQueue.clear();
+    }
+
+    /**
+     * Handles inbound message on event bus subscription according to overflow policy.
+     * @param event
+     */
+    private void onMessage(io.vertx.core.eventbus.Message<Object> event) {
+        switch (endpointConfiguration.getOverflowPolicy()) {
+            case DROP_OLDEST:
+                while (!inboundQueue.offer(event)) {
+                    if (inboundQueue.poll() != null) {
+                        onDropped();
+                    }
+                }
+                break;
+            case DROP_NEWEST:
+                if (!inboundQueue.offer(event)) {
+                    onDropped();
+                }
+                break;
+            default:
+                offerOrPause(event);
+        }
+    }
+
+    /**
+     * Counts and logs dropped message.
+     */
+    private void onDropped() {
+        droppedMessages.incrementAndGet();
+        log.warn("Vert.x inbound queue is full - dropped message on event bus address '" + endpointConfiguration.getAddress() + "'");
+    }
+
+    /**
+     * Adds message to inbound queue and pauses event bus subscription so Vert.x buffers further messages
+     * as soon as the queue is full. Capacity check and pause happen under the same lock as resume so
+     * the subscription is never left paused while the queue has free capacity.
+     * @param event
+     */
+    private synchronized void offerOrPause(io.vertx.core.eventbus.Message<Object> event) {
+        if (!inboundQueue.offer(event)) {
+            onDropped();
+        }
+
+        if (subscription != null && !paused && inboundQueue.remainingCapacity() == 0) {
+            subscription.pause();
+            paused = true;
+        }
+    }
+
+    /**
+     * Resumes paused event bus subscription as soon as inbound queue has free capacity.
+     */
+    private synchronized void resumeIfPaused() {
+        if (paused && subscription != null && inboundQueue.remainingCapacity() > 0) {
+            paused = false;
+            subscription.resume();
         }
     }
 
+    /**
+     * Gets the number of messages currently waiting in inbound queue.
+     * @return
+     */
+    public int getQueueSize() {
+        return inboundQueue.size();
+    }
+
+    /**
+     * Gets the number of messages dropped due to full inbound queue.
+     * @return
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Checks if event bus subscription is currently paused due to full inbound queue.
+     * @return
+     */
+    public boolean isPaused() {
+        return paused;
+    }
 }
@@ -113,4 +113,24 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the inbound queue capacity.
+     * @param queueCapacity
+     * @return
+     */
+    public VertxEndpointBuilder queueCapacity(int queueCapacity) {
+        endpoint.getEndpointConfiguration().setQueueCapacity(queueCapacity);
+        return this;
+    }
+
+    /**
+     * Sets the inbound queue overflow policy.
+     * @param overflowPolicy
+     * @return
+     */
+    public VertxEndpointBuilder overflowPolicy(OverflowPolicy overflowPolicy) {
+        endpoint.getEndpointConfiguration().setOverflowPolicy(overflowPolicy);
+        return this;
+    }
 }
@@ -40,6 +40,12 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
+    /** Maximum number of inbound messages queued by consumer subscription */
+    private int queueCapacity = 1000;
+
+    /** Policy applied when inbound queue is full */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.PAUSE;
+
     /**
      * Gets the address on the vert.x event bus.
      * @return
@@ -119,4 +125,36 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setMessageConverter(VertxMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the inbound queue capacity.
+     * @return
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of inbound messages queued by the consumer subscription.
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Gets the overflow policy.
+     * @return
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Sets the policy applied when inbound queue is full.
+     * @param overflowPolicy
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
 }
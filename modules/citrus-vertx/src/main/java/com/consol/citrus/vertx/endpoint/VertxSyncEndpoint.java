@@ -50,7 +50,7 @@ public class VertxSyncEndpoint extends VertxEndpoint {
     }
 
     @Override
-    public Consumer createConsumer() {
+    public synchronized Consumer createConsumer() {
         if (vertxSyncMessageProducer != null) {
             return vertxSyncMessageProducer;
         }
@@ -65,7 +65,16 @@ public class VertxSyncEndpoint extends VertxEndpoint {
     }
 
     @Override
-    public Producer createProducer() {
+    public synchronized void destroy() throws Exception {
+        if (vertxSyncMessageConsumer != null) {
+            vertxSyncMessageConsumer.unsubscribe();
+        }
+
+        super.destroy();
+    }
+
+    @Override
+    public synchronized Producer createProducer() {
         if (vertxSyncMessageConsumer != null) {
             return vertxSyncMessageConsumer;
         }
@@ -124,4 +124,24 @@ public class VertxSyncEndpointBuilder extends AbstractEndpointBuilder<VertxSyncE
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the inbound queue capacity.
+     * @param queueCapacity
+     * @return
+     */
+    public VertxSyncEndpointBuilder queueCapacity(int queueCapacity) {
+        endpoint.getEndpointConfiguration().setQueueCapacity(queueCapacity);
+        return this;
+    }
+
+    /**
+     * Sets the inbound queue overflow policy.
+     * @param overflowPolicy
+     * @return
+     */
+    public VertxSyncEndpointBuilder overflowPolicy(OverflowPolicy overflowPolicy) {
+        endpoint.getEndpointConfiguration().setOverflowPolicy(overflowPolicy);
+        return this;
+    }
 }
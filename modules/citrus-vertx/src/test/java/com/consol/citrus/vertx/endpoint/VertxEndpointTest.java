@@ -16,6 +16,7 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
@@ -33,6 +34,11 @@ import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.MessageConsumer;
 
+import java.util.LinkedList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import static org.mockito.Mockito.*;
 
 /**
@@ -96,7 +102,7 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
     }
 
     @Test
-    public void testVertxEndpointConsumer() {
+    public void testVertxEndpointConsumer() throws Exception {
         String eventBusAddress = "news-feed";
         VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
         endpointConfiguration.setAddress(eventBusAddress);
@@ -126,9 +132,196 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(receivedMessage.getHeader(CitrusVertxMessageHeaders.VERTX_ADDRESS), eventBusAddress);
         Assert.assertEquals(receivedMessage.getHeader(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS), "replyAddress");
 
+        verify(messageConsumer, never()).unregister();
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointConsumerSubscription() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setQueueCapacity(2);
+        endpointConfiguration.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        final io.vertx.core.eventbus.Message[] messages = new io.vertx.core.eventbus.Message[3];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = Mockito.mock(io.vertx.core.eventbus.Message.class);
+            when(messages[i].body()).thenReturn("Hello from Vertx " + i);
+            when(messages[i].address()).thenReturn(eventBusAddress);
+        }
+
+        reset(vertx, eventBus, messageConsumer);
+
+        final Handler[] subscription = new Handler[1];
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                subscription[0] = (Handler) invocation.getArguments()[1];
+                return messageConsumer;
+            }
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        Assert.assertSame(vertxEndpoint.createConsumer(), consumer);
+
+        consumer.subscribe();
+        for (io.vertx.core.eventbus.Message message : messages) {
+            subscription[0].handle(message);
+        }
+
+        Assert.assertEquals(consumer.getQueueSize(), 2);
+        Assert.assertEquals(consumer.getDroppedMessages(), 1L);
+
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), "Hello from Vertx 1");
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), "Hello from Vertx 2");
+        Assert.assertEquals(consumer.getQueueSize(), 0);
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+
+        vertxEndpoint.destroy();
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointConsumerReleasedForOtherTestContext() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        final io.vertx.core.eventbus.Message[] messages = new io.vertx.core.eventbus.Message[3];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = Mockito.mock(io.vertx.core.eventbus.Message.class);
+            when(messages[i].body()).thenReturn("Hello from Vertx " + i);
+            when(messages[i].address()).thenReturn(eventBusAddress);
+        }
+
+        reset(vertx, eventBus, messageConsumer);
+
+        final Handler[] subscription = new Handler[1];
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                subscription[0] = (Handler) invocation.getArguments()[1];
+                return messageConsumer;
+            }
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+
+        consumer.subscribe();
+        subscription[0].handle(messages[0]);
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), "Hello from Vertx 0");
+
+        subscription[0].handle(messages[1]);
+        Assert.assertEquals(consumer.getQueueSize(), 1);
+
+        TestContext otherContext = createTestContext();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    subscription[0].handle(messages[2]);
+                }
+            }, 200L, TimeUnit.MILLISECONDS);
+
+            Assert.assertEquals(consumer.receive(otherContext, 5000L).getPayload(), "Hello from Vertx 2");
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        verify(messageConsumer).unregister();
+        verify(eventBus, times(2)).consumer(eq(eventBusAddress), any(Handler.class));
+    }
+
+    @Test
+    public void testVertxEndpointConsumerPauseResume() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setQueueCapacity(2);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        final io.vertx.core.eventbus.Message[] messages = new io.vertx.core.eventbus.Message[5];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = Mockito.mock(io.vertx.core.eventbus.Message.class);
+            when(messages[i].body()).thenReturn("Hello from Vertx " + i);
+            when(messages[i].address()).thenReturn(eventBusAddress);
+        }
+
+        reset(vertx, eventBus, messageConsumer);
+
+        final Handler[] subscription = new Handler[1];
+        final LinkedList<io.vertx.core.eventbus.Message> buffered = new LinkedList<>();
+        final boolean[] paused = new boolean[1];
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                subscription[0] = (Handler) invocation.getArguments()[1];
+                return messageConsumer;
+            }
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                paused[0] = true;
+                return messageConsumer;
+            }
+        }).when(messageConsumer).pause();
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                paused[0] = false;
+                while (!paused[0] && !buffered.isEmpty()) {
+                    subscription[0].handle(buffered.poll());
+                }
+                return messageConsumer;
+            }
+        }).when(messageConsumer).resume();
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        consumer.subscribe();
+
+        for (io.vertx.core.eventbus.Message message : messages) {
+            if (paused[0]) {
+                buffered.add(message);
+            } else {
+                subscription[0].handle(message);
+            }
+        }
+
+        Assert.assertTrue(consumer.isPaused());
+        Assert.assertEquals(consumer.getQueueSize(), 2);
+        Assert.assertEquals(buffered.size(), 3);
+
+        for (int i = 0; i < messages.length; i++) {
+            Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), "Hello from Vertx " + i);
+        }
+
+        Assert.assertFalse(consumer.isPaused());
+        Assert.assertEquals(consumer.getQueueSize(), 0);
+        Assert.assertEquals(consumer.getDroppedMessages(), 0L);
+
+        subscription[0].handle(messages[0]);
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), "Hello from Vertx 0");
+
+        vertxEndpoint.destroy();
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
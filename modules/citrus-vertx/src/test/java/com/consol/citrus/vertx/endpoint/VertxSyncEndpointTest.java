@@ -93,7 +93,7 @@ public class VertxSyncEndpointTest extends AbstractTestNGUnitTest {
     }
 
     @Test
-    public void testVertxSyncEndpointConsumer() {
+    public void testVertxSyncEndpointConsumer() throws Exception {
         String eventBusAddress = "news-feed";
         VertxSyncEndpointConfiguration endpointConfiguration = new VertxSyncEndpointConfiguration();
         endpointConfiguration.setAddress(eventBusAddress);
@@ -129,6 +129,9 @@ public class VertxSyncEndpointTest extends AbstractTestNGUnitTest {
 
         vertxEndpoint.createProducer().send(replyMessage, context);
 
+        verify(messageConsumer, never()).unregister();
+
+        vertxEndpoint.destroy();
         verify(messageConsumer).unregister();
     }
 
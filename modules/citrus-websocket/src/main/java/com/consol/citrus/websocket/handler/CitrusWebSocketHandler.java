@@ -16,19 +16,23 @@
 
 package com.consol.citrus.websocket.handler;
 
+import com.consol.citrus.util.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
+ * Web Socket Handler for handling incoming and sending outgoing Web Socket messages. Inbound messages are queued per session
+ * and consumers block on these queues until a message arrives. Outbound messages are sent through per session send buffers
+ * and broadcast messages are sent to all open sessions in parallel.
  *
  * @author Martin Maher
  * @since 2.3
@@ -37,34 +41,49 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Inbound messages in order of arrival over all sessions */
+    private final LinkedList<InboundMessage> inboundMessages = new LinkedList<>();
 
-    /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    /** Inbound messages per session */
+    private final Map<String, LinkedList<InboundMessage>> sessionMessages = new HashMap<>();
+
+    /** Guards inbound message queues */
+    private final ReentrantLock inboundLock = new ReentrantLock();
+
+    /** Signals new inbound messages */
+    private final Condition messageArrived = inboundLock.newCondition();
+
+    /** Web socket sessions decorated with send buffer */
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /** Time limit in milliseconds for sending a single message to a session */
+    private int sendTimeLimit = 10 * 1000;
+
+    /** Maximum number of bytes buffered per session while another message is being sent */
+    private int sendBufferSizeLimit = 512 * 1024;
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         LOG.debug(String.format("WebSocket connection established (%s)", session.getId()));
-        sessions.put(session.getId(), session);
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, sendBufferSizeLimit));
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session.getId(), message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session.getId(), message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session.getId(), message);
     }
 
     @Override
@@ -78,35 +97,265 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Adds inbound message to session queue and wakes up waiting consumers.
+     * @param sessionId
+     * @param message
+     */
+    private void addInboundMessage(String sessionId, WebSocketMessage<?> message) {
+        InboundMessage inboundMessage = new InboundMessage(sessionId, message);
+
+        inboundLock.lock();
+        try {
+            inboundMessages.add(inboundMessage);
+
+            LinkedList<InboundMessage> queue = sessionMessages.get(sessionId);
+            if (queue == null) {
+                queue = new LinkedList<>();
+                sessionMessages.put(sessionId, queue);
+            }
+            queue.add(inboundMessage);
+
+            messageArrived.signalAll();
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        InboundMessage inboundMessage = pollMessage(null, 0L);
+        return inboundMessage != null ? inboundMessage.getMessage() : null;
+    }
+
+    /**
+     * Waits for next inbound message of any session. Returns null when no message has arrived within given time.
+     * @param timeout
+     * @return
+     */
+    public WebSocketMessage<?> getMessage(long timeout) {
+        InboundMessage inboundMessage = pollMessage(null, timeout);
+        return inboundMessage != null ? inboundMessage.getMessage() : null;
+    }
+
+    /**
+     * Waits for next inbound message. Optional session id restricts message to given session.
+     * Returns null when no message has arrived within given time.
+     * @param sessionId the session id or null for any session
+     * @param timeout
+     * @return
+     */
+    public InboundMessage pollMessage(String sessionId, long timeout) {
+        long timeLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        inboundLock.lock();
+        try {
+            InboundMessage inboundMessage = takeMessage(sessionId);
+            while (inboundMessage == null && timeLeft > 0) {
+                timeLeft = messageArrived.awaitNanos(timeLeft);
+                inboundMessage = takeMessage(sessionId);
+            }
+
+            return inboundMessage;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Thread interrupted while waiting for Web Socket message");
+            return null;
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    /**
+     * Removes next inbound message from queues. Must be called holding the inbound lock.
+     * @param sessionId
+     * @return
+     */
+    private InboundMessage takeMessage(String sessionId) {
+        InboundMessage inboundMessage;
+        if (sessionId == null) {
+            inboundMessage = inboundMessages.poll();
+            if (inboundMessage != null) {
+                removeSessionMessage(inboundMessage);
+            }
+        } else {
+            LinkedList<InboundMessage> queue = sessionMessages.get(sessionId);
+            inboundMessage = queue != null ? queue.poll() : null;
+            if (inboundMessage != null) {
+                inboundMessages.remove(inboundMessage);
+
+                if (queue.isEmpty()) {
+                    sessionMessages.remove(sessionId);
+                }
+            }
+        }
+
+        return inboundMessage;
     }
 
     /**
-     * Publish message to all sessions known to this handler.
+     * Removes message from head of its session queue.
+     * @param inboundMessage
+     */
+    private void removeSessionMessage(InboundMessage inboundMessage) {
+        LinkedList<InboundMessage> queue = sessionMessages.get(inboundMessage.getSessionId());
+        if (queue != null) {
+            queue.remove(inboundMessage);
+
+            if (queue.isEmpty()) {
+                sessionMessages.remove(inboundMessage.getSessionId());
+            }
+        }
+    }
+
+    /**
+     * Gets the ids of all sessions known to this handler.
+     * @return
+     */
+    public Set<String> getSessionIds() {
+        return Collections.unmodifiableSet(sessions.keySet());
+    }
+
+    /**
+     * Publish message to all sessions known to this handler. Messages are sent to multiple sessions in parallel.
      * @param message
      * @return
      */
     public boolean sendMessage(WebSocketMessage<?> message) {
-        boolean sentSuccessfully = false;
-        if (sessions.isEmpty()) {
+        List<WebSocketSession> openSessions = new ArrayList<>();
+        for (WebSocketSession session : sessions.values()) {
+            if (session.isOpen()) {
+                openSessions.add(session);
+            }
+        }
+
+        if (openSessions.isEmpty()) {
             LOG.warn("No Web Socket session exists - message cannot be sent");
+            return false;
         }
 
-        for (WebSocketSession session : sessions.values()) {
-            if (session != null && session.isOpen()) {
-                try {
-                    session.sendMessage(message);
-                    sentSuccessfully = true;
-                } catch (IOException e) {
-                    LOG.error(String.format("(%s) error sending message", session.getId()), e);
-                }
+        if (openSessions.size() == 1) {
+            return send(openSessions.get(0), message);
+        }
+
+        List<Future<Boolean>> results = new ArrayList<>(openSessions.size());
+        for (final WebSocketSession session : openSessions) {
+            results.add(ThreadUtils.getWorkerExecutor().submit(() -> send(session, message)));
+        }
+
+        boolean sentSuccessfully = false;
+        for (Future<Boolean> result : results) {
+            try {
+                sentSuccessfully |= result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.warn("Thread interrupted while sending Web Socket message");
+            } catch (ExecutionException e) {
+                LOG.error("Error sending Web Socket message", e.getCause());
             }
         }
+
         return sentSuccessfully;
     }
+
+    /**
+     * Send message to session with given id.
+     * @param message
+     * @param sessionId
+     * @return
+     */
+    public boolean sendMessage(WebSocketMessage<?> message, String sessionId) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null || !session.isOpen()) {
+            LOG.warn(String.format("No open Web Socket session (%s) exists - message cannot be sent", sessionId));
+            return false;
+        }
+
+        return send(session, message);
+    }
+
+    /**
+     * Sends message to given session using session send buffer.
+     * @param session
+     * @param message
+     * @return
+     */
+    private boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOG.error(String.format("(%s) error sending message", session.getId()), e);
+            return false;
+        }
+    }
+
+    /**
+     * Sets the time limit in milliseconds for sending a single message to a session.
+     * @param sendTimeLimit
+     */
+    public void setSendTimeLimit(int sendTimeLimit) {
+        this.sendTimeLimit = sendTimeLimit;
+    }
+
+    /**
+     * Gets the send time limit.
+     * @return
+     */
+    public int getSendTimeLimit() {
+        return sendTimeLimit;
+    }
+
+    /**
+     * Sets the maximum number of bytes buffered per session.
+     * @param sendBufferSizeLimit
+     */
+    public void setSendBufferSizeLimit(int sendBufferSizeLimit) {
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    /**
+     * Gets the send buffer size limit.
+     * @return
+     */
+    public int getSendBufferSizeLimit() {
+        return sendBufferSizeLimit;
+    }
+
+    /**
+     * Inbound message together with the id of the session it was received on.
+     */
+    public static final class InboundMessage {
+        private final String sessionId;
+        private final WebSocketMessage<?> message;
+
+        /**
+         * Constructor using session id and message.
+         * @param sessionId
+         * @param message
+         */
+        InboundMessage(String sessionId, WebSocketMessage<?> message) {
+            this.sessionId = sessionId;
+            this.message = message;
+        }
+
+        /**
+         * Gets the session id.
+         * @return
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the message.
+         * @return
+         */
+        public WebSocketMessage<?> getMessage() {
+            return message;
+        }
+    }
 }
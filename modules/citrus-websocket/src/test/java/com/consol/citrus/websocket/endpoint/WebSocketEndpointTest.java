@@ -19,9 +19,11 @@ package com.consol.citrus.websocket.endpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.SelectiveConsumer;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -166,4 +168,76 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
         }
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWebSocketEndpointSessionSelector() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+        String endpointUri = "/test";
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri(endpointUri);
+
+        reset(session, session2);
+
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+        when(session.isOpen()).thenReturn(true);
+        when(session2.isOpen()).thenReturn(true);
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("Hello from session 1"));
+        handler.handleMessage(session2, new TextMessage("Hello from session 2"));
+
+        SelectiveConsumer consumer = webSocketEndpoint.createConsumer();
+        Message requestMessage = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from session 2");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        requestMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from session 1");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-1");
+
+        Message responseMessage = new DefaultMessage("Hello session 2")
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, "test-socket-2");
+        webSocketEndpoint.createProducer().send(responseMessage, context);
+
+        verify(session, never()).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session2).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+    }
+
+    @Test
+    public void testWebSocketEndpointWaitForMessage() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        final CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        Thread sender = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(200L);
+                    handler.handleMessage(session, new TextMessage("Hello delayed"));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        sender.start();
+
+        Message requestMessage = webSocketEndpoint.createConsumer().receive(context, 5000L);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello delayed");
+
+        sender.join();
+    }
+}
@@ -20,7 +20,7 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
-import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Base64InputStream;
 import org.apache.commons.codec.binary.Hex;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
@@ -32,6 +32,7 @@ import javax.activation.DataHandler;
 import javax.activation.DataSource;
 import java.io.*;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 
 /**
  * Citrus SOAP attachment implementation.
@@ -46,6 +47,9 @@ public class SoapAttachment implements Attachment, Serializable {
     public static final String ENCODING_BASE64_BINARY = "base64Binary";
     public static final String ENCODING_HEX_BINARY = "hexBinary";
 
+    /** Buffer size used when reading attachment data streams */
+    private static final int BUFFER_SIZE = 8192;
+
     /** Content body as string */
     private String content = null;
 
@@ -73,6 +77,9 @@ public class SoapAttachment implements Attachment, Serializable {
     /** Test context for variable resolving */
     private TestContext context;
 
+    /** Content size in bytes as reported by source attachment, zero or negative when unknown */
+    private long size = -1;
+
     /**
      * Default constructor
      */
@@ -98,6 +105,7 @@ public class SoapAttachment implements Attachment, Serializable {
         } else {
             // Binary content
             soapAttachment.setDataHandler(attachment.getDataHandler());
+            soapAttachment.size = attachment.getSize();
         }
 
         soapAttachment.setCharsetName(Citrus.CITRUS_FILE_ENCODING);
@@ -150,6 +158,7 @@ public class SoapAttachment implements Attachment, Serializable {
      */
     public void setDataHandler(DataHandler dataHandler) {
         this.dataHandler = dataHandler;
+        this.size = -1;
     }
 
     @Override
@@ -162,6 +171,10 @@ public class SoapAttachment implements Attachment, Serializable {
         try {
             if (content != null) {
                 return getContent().getBytes(charsetName).length;
+            } else if (size > 0) {
+                return size;
+            } else if (dataHandler == null && StringUtils.hasText(getContentResourcePath())) {
+                return new PathMatchingResourcePatternResolver().getResource(getContentResourcePath()).contentLength();
             } else {
                 return getSizeOfContent(getDataHandler().getInputStream());
             }
@@ -193,11 +206,10 @@ public class SoapAttachment implements Attachment, Serializable {
             }
         } else {
             try {
-                byte[] binaryData = FileCopyUtils.copyToByteArray(getDataHandler().getInputStream());
                 if (encodingType.equals(SoapAttachment.ENCODING_BASE64_BINARY)) {
-                    return Base64.encodeBase64String(binaryData);
+                    return encodeBase64(getDataHandler().getInputStream());
                 } else if (encodingType.equals(SoapAttachment.ENCODING_HEX_BINARY)) {
-                    return Hex.encodeHexString(binaryData).toUpperCase();
+                    return encodeHex(getDataHandler().getInputStream());
                 } else {
                     throw new CitrusRuntimeException(String.format("Unsupported encoding type '%s' for SOAP attachment - choose one of %s or %s",
                             encodingType, SoapAttachment.ENCODING_BASE64_BINARY, SoapAttachment.ENCODING_HEX_BINARY));
@@ -313,11 +325,49 @@ public class SoapAttachment implements Attachment, Serializable {
      * @param is Read all data from stream to calculate size of the stream
      */
     private static long getSizeOfContent(InputStream is) throws IOException {
-        long size = 0;
-        while (is.read() != -1) {
-            size++;
+        try {
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                size += read;
+            }
+            return size;
+        } finally {
+            is.close();
+        }
+    }
+
+    /**
+     * Encodes binary data read from given input stream to base64 string without buffering the raw data.
+     * @param is
+     * @return
+     * @throws IOException
+     */
+    private static String encodeBase64(InputStream is) throws IOException {
+        StringWriter encoded = new StringWriter();
+        FileCopyUtils.copy(new InputStreamReader(new Base64InputStream(is, true, 0, new byte[0]), Charset.forName("US-ASCII")), encoded);
+        return encoded.toString();
+    }
+
+    /**
+     * Encodes binary data read from given input stream to upper case hex string without buffering the raw data.
+     * @param is
+     * @return
+     * @throws IOException
+     */
+    private static String encodeHex(InputStream is) throws IOException {
+        try {
+            StringBuilder encoded = new StringBuilder();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                encoded.append(Hex.encodeHex(read == buffer.length ? buffer : Arrays.copyOf(buffer, read), false));
+            }
+            return encoded.toString();
+        } finally {
+            is.close();
         }
-        return size;
     }
 
     /**
@@ -18,15 +18,17 @@ package com.consol.citrus.ws.validation;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ws.message.SoapAttachment;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
- * Soap attachment validator performs binary content validation by comparing attachment content binary input streams.
+ * Soap attachment validator performs binary content validation by comparing digests of attachment content binary input streams.
+ * Digests are calculated while reading the streams so attachment content is never held in memory as a whole.
  *
  * @author Christoph Deppisch
  * @since 2.1
@@ -43,9 +45,14 @@ public class BinarySoapAttachmentValidator extends AbstractSoapAttachmentValidat
         }
 
         try {
-            Assert.isTrue(IOUtils.contentEquals(receivedAttachment.getInputStream(), controlAttachment.getInputStream()),
+            String receivedDigest = digest(receivedAttachment.getInputStream());
+            String controlDigest = digest(controlAttachment.getInputStream());
+
+            Assert.isTrue(receivedDigest.equals(controlDigest),
                     "Values not equal for binary attachment content '"
-                            + controlAttachment.getContentId() + "'");
+                            + controlAttachment.getContentId() + "', expected SHA-256 digest '"
+                            + controlDigest + "' but was '"
+                            + receivedDigest + "'");
         } catch(IOException e) {
             throw new CitrusRuntimeException("Binary SOAP attachment validation failed", e);
         }
@@ -54,4 +61,18 @@ public class BinarySoapAttachmentValidator extends AbstractSoapAttachmentValidat
             log.debug("Validating binary SOAP attachment content: OK");
         }
     }
+
+    /**
+     * Calculates SHA-256 digest of given input stream content. Stream is closed afterwards.
+     * @param is
+     * @return
+     * @throws IOException
+     */
+    private String digest(InputStream is) throws IOException {
+        try {
+            return DigestUtils.sha256Hex(is);
+        } finally {
+            is.close();
+        }
+    }
 }
@@ -84,6 +84,20 @@ public class SoapAttachmentTest {
 
     }
 
+    @Test
+    public void testFromBinaryAttachmentSize() throws Exception {
+        reset(attachment);
+
+        when(attachment.getContentId()).thenReturn("img");
+        when(attachment.getContentType()).thenReturn("application/octet-stream");
+        when(attachment.getSize()).thenReturn(1024L);
+        when(attachment.getDataHandler()).thenReturn(new DataHandler(new StaticTextDataSource("This is img text content!", "application/octet-stream", "UTF-8", "img")));
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment);
+
+        Assert.assertEquals(soapAttachment.getSize(), 1024L);
+    }
+
     @Test
     public void testFileResourceTextContent() throws Exception {
         SoapAttachment soapAttachment = new SoapAttachment();